@@ -11,6 +11,8 @@
 #   -a, --artifact-id Project name (required)
 #   -v, --version     Project version (default: 1.0.0-SNAPSHOT)
 #   -p, --package     Java package name (default: groupId)
+#   --java-version    Java release: 17 or 21 (default: 17)
+#   --benchmarks      Generate a JMH benchmarks module
 #   -o, --output      Output directory (default: current directory)
 #   -h, --help        Show this help message
 #
@@ -21,6 +23,8 @@ GROUP_ID=""
 ARTIFACT_ID=""
 VERSION="1.0.0-SNAPSHOT"
 PACKAGE=""
+JAVA_VERSION="17"
+INCLUDE_BENCHMARKS="false"
 OUTPUT_DIR="."
 
 # Show help for new command (T024)
@@ -37,6 +41,8 @@ Options:
   -a, --artifact-id <id>    Project name (required)
   -v, --version <version>   Project version (default: 1.0.0-SNAPSHOT)
   -p, --package <name>      Java package name (default: groupId)
+  --java-version <release>  Java release: 17 or 21 (default: 17)
+  --benchmarks              Generate a JMH benchmarks module
   -o, --output <dir>        Output directory (default: current directory)
   -h, --help                Show this help message
 
@@ -103,6 +109,18 @@ parse_new_args() {
                 PACKAGE="${1#*=}"
                 shift
                 ;;
+            --java-version)
+                JAVA_VERSION="$2"
+                shift 2
+                ;;
+            --java-version=*)
+                JAVA_VERSION="${1#*=}"
+                shift
+                ;;
+            --benchmarks)
+                INCLUDE_BENCHMARKS="true"
+                shift
+                ;;
             -o|--output)
                 OUTPUT_DIR="$2"
                 shift 2
@@ -198,6 +216,8 @@ invoke_archetype() {
         -DartifactId="${ARTIFACT_ID}" \
         -Dversion="${VERSION}" \
         -Dpackage="${PACKAGE}" \
+        -DjavaVersion="${JAVA_VERSION}" \
+        -DincludeBenchmarks="${INCLUDE_BENCHMARKS}" \
         -DforgeArchetypeVersion="${ARCHETYPE_VERSION}" \
         -DforgeTemplateVersion="1.0.0" \
         -DinteractiveMode=false \
@@ -260,6 +280,10 @@ validate_params() {
         fi
     fi
 
+    if [[ ! "$JAVA_VERSION" =~ ^(17|21)$ ]]; then
+        errors+=("Invalid Java version '${JAVA_VERSION}' - must be 17 or 21")
+    fi
+
     # Report errors with clear batch-friendly output (T048)
     if [[ ${#errors[@]} -gt 0 ]]; then
         print_validation_summary "${errors[@]}"
@@ -20,6 +20,8 @@ type NewConfig struct {
 	Module      string // Go module path (for Go templates)
 	Version     string
 	Package     string
+	JavaVersion string // Java release for Java templates (17 or 21)
+	Benchmarks  bool   // Generate the JMH benchmarks module (Java templates)
 	OutputDir   string
 	Interactive bool
 }
@@ -44,6 +46,9 @@ Examples:
   # Create with all options
   forge new -t java-ddd -g com.example -a my-service -v 2.0.0 -p com.example.myservice
 
+  # Create with a JMH benchmarks module
+  forge new -g com.example -a my-service --benchmarks
+
   # Create in specific directory
   forge new -g com.example -a my-service -o ./projects
 
@@ -63,6 +68,8 @@ func init() {
 	newCmd.Flags().StringVarP(&newConfig.Module, "module", "m", "", "Go module path (required for Go templates)")
 	newCmd.Flags().StringVarP(&newConfig.Version, "version", "v", "", "Project version")
 	newCmd.Flags().StringVarP(&newConfig.Package, "package", "p", "", "Java package name (defaults to groupId)")
+	newCmd.Flags().StringVar(&newConfig.JavaVersion, "java-version", "", "Java release for Java templates: 17 or 21 (default: 17)")
+	newCmd.Flags().BoolVar(&newConfig.Benchmarks, "benchmarks", false, "Generate a JMH benchmarks module (Java templates)")
 	newCmd.Flags().StringVarP(&newConfig.OutputDir, "output", "o", ".", "Output directory")
 	newCmd.Flags().BoolVar(&newConfig.Interactive, "interactive", false, "Enable interactive mode (wizard)")
 }
@@ -144,6 +151,11 @@ func runNew(cmd *cobra.Command, args []string) error {
 			newConfig.Package,
 			tmpl.IsJavaTemplate(),
 		)
+		if tmpl.IsJavaTemplate() {
+			if err := validation.ValidateJavaVersion(newConfig.JavaVersion); err != nil {
+				errors = append(errors, err)
+			}
+		}
 	}
 
 	if len(errors) > 0 {
@@ -153,12 +165,14 @@ func runNew(cmd *cobra.Command, args []string) error {
 
 	// Generate project
 	gen := generator.New(tmpl, &generator.Config{
-		GroupID:    newConfig.GroupID,
-		ArtifactID: newConfig.ArtifactID,
-		Module:     newConfig.Module,
-		Version:    newConfig.Version,
-		Package:    newConfig.Package,
-		OutputDir:  newConfig.OutputDir,
+		GroupID:     newConfig.GroupID,
+		ArtifactID:  newConfig.ArtifactID,
+		Module:      newConfig.Module,
+		Version:     newConfig.Version,
+		Package:     newConfig.Package,
+		JavaVersion: newConfig.JavaVersion,
+		Benchmarks:  newConfig.Benchmarks,
+		OutputDir:   newConfig.OutputDir,
 	})
 	gen.SetQuiet(quiet)
 
@@ -18,12 +18,14 @@ type Generator struct {
 
 // Config holds generation configuration
 type Config struct {
-	GroupID    string
-	ArtifactID string
-	Version    string
-	Package    string
-	Module     string // Go module path (for Go templates)
-	OutputDir  string
+	GroupID     string
+	ArtifactID  string
+	Version     string
+	Package     string
+	JavaVersion string // Java release (for Java templates; archetype default when empty)
+	Benchmarks  bool   // Generate the JMH benchmarks module (for Java templates)
+	Module      string // Go module path (for Go templates)
+	OutputDir   string
 }
 
 // New creates a new generator
@@ -130,6 +132,8 @@ func (g *Generator) generateMaven(ctx context.Context) error {
 		ArtifactID:          g.config.ArtifactID,
 		Version:             g.config.Version,
 		Package:             pkg,
+		JavaVersion:         g.config.JavaVersion,
+		IncludeBenchmarks:   g.config.Benchmarks,
 		OutputDir:           outputDir,
 	}
 
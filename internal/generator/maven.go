@@ -68,6 +68,14 @@ func (m *Maven) Generate(ctx context.Context, params *GenerateParams) error {
 		"-DinteractiveMode=false",
 	}
 
+	if params.JavaVersion != "" {
+		args = append(args, fmt.Sprintf("-DjavaVersion=%s", params.JavaVersion))
+	}
+
+	if params.IncludeBenchmarks {
+		args = append(args, "-DincludeBenchmarks=true")
+	}
+
 	if params.OutputDir != "" {
 		args = append(args, fmt.Sprintf("-DoutputDirectory=%s", params.OutputDir))
 	}
@@ -99,6 +107,8 @@ type GenerateParams struct {
 	ArtifactID          string
 	Version             string
 	Package             string
+	JavaVersion         string
+	IncludeBenchmarks   bool
 	OutputDir           string
 }
 
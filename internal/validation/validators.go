@@ -23,6 +23,9 @@ var (
 	// Valid: github.com/user/project, example.com/pkg/v2, my-project
 	// Invalid: My-Project, /invalid/path
 	GoModulePattern = regexp.MustCompile(`^[a-z0-9][a-z0-9.-]*(/[a-z0-9][a-z0-9._-]*)*$`)
+
+	// JavaVersionPattern: Java releases supported by the Java templates
+	JavaVersionPattern = regexp.MustCompile(`^(17|21)$`)
 )
 
 // ValidationError represents a validation error with context
@@ -111,6 +114,22 @@ func ValidatePackage(value string) error {
 	return nil
 }
 
+// ValidateJavaVersion validates the Java release of Java templates
+func ValidateJavaVersion(value string) error {
+	if value == "" {
+		return nil // Java version has a default, so empty is ok
+	}
+	if !JavaVersionPattern.MatchString(value) {
+		return &ValidationError{
+			Field:   "java-version",
+			Value:   value,
+			Message: fmt.Sprintf("invalid Java version '%s'", value),
+			Help:    "java-version must be 17 or 21",
+		}
+	}
+	return nil
+}
+
 // ValidateGoModule validates Go module path format
 func ValidateGoModule(value string) error {
 	if value == "" {
@@ -139,6 +139,33 @@ func TestValidatePackage(t *testing.T) {
 	}
 }
 
+func TestValidateJavaVersion(t *testing.T) {
+	tests := []struct {
+		input   string
+		wantErr bool
+	}{
+		// Valid cases
+		{"17", false},
+		{"21", false},
+		{"", false}, // empty is OK (defaults to 17)
+
+		// Invalid cases
+		{"11", true},   // below baseline
+		{"1.8", true},  // old version scheme
+		{"21.0", true}, // not a release number
+	}
+
+	for _, tt := range tests {
+		t.Run(tt.input, func(t *testing.T) {
+			err := ValidateJavaVersion(tt.input)
+			if (err != nil) != tt.wantErr {
+				t.Errorf("ValidateJavaVersion(%q) error = %v, wantErr %v",
+					tt.input, err, tt.wantErr)
+			}
+		})
+	}
+}
+
 func TestValidateAll(t *testing.T) {
 	tests := []struct {
 		name        string
@@ -0,0 +1,14 @@
+// Removes optional modules that were not requested.
+// The archetype plugin always generates every declared module and lists it in the parent POM,
+// so the benchmarks module directory and its <module> entry are dropped here unless
+// includeBenchmarks=true. Kept to plain File APIs: the plugin runs this with an old Groovy runtime.
+
+def projectDir = new File(request.outputDirectory, request.artifactId)
+
+if (request.properties.get('includeBenchmarks') != 'true') {
+    def module = request.artifactId + '-benchmarks'
+    new File(projectDir, module).deleteDir()
+
+    def pom = new File(projectDir, 'pom.xml')
+    pom.text = pom.text.replaceAll('[ \\t]*<module>' + module + '</module>\\r?\\n', '')
+}
@@ -0,0 +1,35 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Port interface for revoking access tokens before they expire.
+ * Revocation is recorded as a per-user watermark: every token issued at or before it is rejected.
+ * Watermarks and issue times have millisecond precision, so a re-login right after a revocation
+ * gets a token that is issued after the watermark.
+ * Implementation provided by the infrastructure layer.
+ */
+public interface AccessTokenRevocationList {
+
+    /**
+     * Revokes all access tokens of a user issued at or before the given instant.
+     *
+     * @param userId        the user ID
+     * @param revokedBefore the revocation watermark
+     */
+    void revokeAllIssuedBefore(UUID userId, Instant revokedBefore);
+
+    /**
+     * Checks whether an access token has been revoked.
+     * Must be cheap enough to call on every authenticated request.
+     *
+     * @param userId   the token subject
+     * @param issuedAt the token's issued-at time
+     * @return true if the token has been revoked
+     */
+    boolean isRevoked(UUID userId, Instant issuedAt);
+}
@@ -3,10 +3,11 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import ${package}.common.DomainException;
+import ${package}.common.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -24,13 +25,16 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final PasswordService passwordService;
 
     public AuthenticationService(AuthenticationManager authenticationManager,
                                   UserRepository userRepository,
-                                  TokenService tokenService) {
+                                  TokenService tokenService,
+                                  PasswordService passwordService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.tokenService = tokenService;
+        this.passwordService = passwordService;
     }
 
     /**
@@ -39,7 +43,7 @@ public class AuthenticationService {
      * @param email    the user's email
      * @param password the user's password
      * @return authentication result with tokens
-     * @throws BadCredentialsException if credentials are invalid
+     * @throws InvalidCredentialsException if credentials are invalid
      */
     @Transactional
     public AuthenticationResult authenticate(String email, String password) {
@@ -51,12 +55,21 @@ public class AuthenticationService {
                     new UsernamePasswordAuthenticationToken(email, password)
             );
 
-            // Load user from database
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new BadCredentialsException("User not found"));
+            // Reuse the user loaded during authentication
+            User user = authentication.getPrincipal() instanceof LoginPrincipal principal
+                    ? principal.getUser()
+                    : userRepository.findByEmail(email)
+                            .orElseThrow(() -> InvalidCredentialsException.INSTANCE);
 
             if (!user.isEnabled()) {
-                throw new AccountDisabledException("Account is disabled");
+                throw AccountDisabledException.INSTANCE;
+            }
+
+            // Upgrade outdated hashes while the raw password is at hand
+            if (passwordService.needsRehash(user.getPasswordHash())) {
+                user.updatePassword(passwordService.hashPassword(password));
+                userRepository.save(user);
+                logger.info("Upgraded password hash for user: {}", user.getId());
             }
 
             // Generate tokens
@@ -73,7 +86,7 @@ public class AuthenticationService {
 
         } catch (AuthenticationException e) {
             logger.warn("Authentication failed for email: {} - {}", email, e.getMessage());
-            throw new BadCredentialsException("Invalid email or password");
+            throw InvalidCredentialsException.INSTANCE;
         }
     }
 
@@ -88,12 +101,9 @@ public class AuthenticationService {
         logger.info("Token refresh request");
 
         try {
-            TokenService.TokenPair tokenPair = tokenService.refreshAccessToken(refreshToken);
-
-            // Get user from new access token
-            var userId = tokenService.getUserIdFromToken(tokenPair.accessToken());
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new TokenService.InvalidTokenException("User not found"));
+            TokenService.RefreshResult result = tokenService.refreshAccessToken(refreshToken);
+            TokenService.TokenPair tokenPair = result.tokenPair();
+            User user = result.user();
 
             logger.info("Token refresh successful for user: {}", user.getId());
 
@@ -133,12 +143,25 @@ public class AuthenticationService {
     ) {
     }
 
+    /**
+     * Exception thrown when the email or password is wrong.
+     */
+    public static final class InvalidCredentialsException extends DomainException {
+        public static final InvalidCredentialsException INSTANCE = new InvalidCredentialsException();
+
+        private InvalidCredentialsException() {
+            super(ErrorCode.INVALID_CREDENTIALS);
+        }
+    }
+
     /**
      * Exception thrown when account is disabled.
      */
-    public static class AccountDisabledException extends RuntimeException {
-        public AccountDisabledException(String message) {
-            super(message);
+    public static final class AccountDisabledException extends DomainException {
+        public static final AccountDisabledException INSTANCE = new AccountDisabledException();
+
+        private AccountDisabledException() {
+            super(ErrorCode.ACCOUNT_DISABLED);
         }
     }
 }
@@ -0,0 +1,30 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Port interface for publishing token verification keys as a JSON Web Key Set.
+ * Implementation provided by the infrastructure layer.
+ */
+public interface JwkSetProvider {
+
+    /**
+     * Gets the public keys that currently verify access tokens.
+     * Symmetric (HMAC) keys are never published, so the set is empty in HMAC mode.
+     *
+     * @return the JWK Set document ({@code {"keys": [...]}})
+     */
+    Map<String, Object> getPublicJwkSet();
+
+    /**
+     * Gets how long clients may cache the JWK Set. A new signing key is published at least this long
+     * before it signs its first token.
+     *
+     * @return the cache lifetime
+     */
+    Duration getPublicJwkSetMaxAge();
+}
@@ -0,0 +1,19 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+/**
+ * Principal produced by a successful password authentication.
+ * Carries the user aggregate loaded during authentication so the login flow does not load it again.
+ * Implementation provided by the infrastructure layer.
+ */
+public interface LoginPrincipal {
+
+    /**
+     * Gets the authenticated user.
+     *
+     * @return the user loaded during authentication
+     */
+    User getUser();
+}
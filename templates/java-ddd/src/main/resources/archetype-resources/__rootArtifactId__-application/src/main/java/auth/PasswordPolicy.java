@@ -0,0 +1,159 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Password strength rules, checked in a single pass over the password.
+ * Each ASCII character is classified with a lookup table built once per policy; the scan stops as
+ * soon as every required character class has been seen. All failing rules are reported together.
+ * Characters outside ASCII count towards the length only.
+ */
+public final class PasswordPolicy {
+
+    /** Special characters accepted by default */
+    public static final String DEFAULT_SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+
+    private static final int ASCII = 128;
+    private static final byte UPPERCASE = 1;
+    private static final byte LOWERCASE = 2;
+    private static final byte DIGIT = 4;
+    private static final byte SPECIAL = 8;
+
+    private final int minLength;
+    private final int maxLength;
+    private final int requiredClasses;
+    private final byte[] classes = new byte[ASCII];
+    private final Map<Rule, String> messages = new EnumMap<>(Rule.class);
+    private final PasswordService.PasswordValidationResult empty;
+
+    /**
+     * Rules a password can break.
+     */
+    public enum Rule {
+        MIN_LENGTH,
+        MAX_LENGTH,
+        UPPERCASE,
+        LOWERCASE,
+        DIGIT,
+        SPECIAL
+    }
+
+    /**
+     * Creates a policy.
+     *
+     * @param minLength         the minimum number of characters
+     * @param maxLength         the maximum number of characters
+     * @param requireUppercase  whether an ASCII uppercase letter is required
+     * @param requireLowercase  whether an ASCII lowercase letter is required
+     * @param requireDigit      whether an ASCII digit is required
+     * @param requireSpecial    whether one of {@code specialCharacters} is required
+     * @param specialCharacters the characters that count as special, ASCII only
+     */
+    public PasswordPolicy(int minLength, int maxLength, boolean requireUppercase, boolean requireLowercase,
+                          boolean requireDigit, boolean requireSpecial, String specialCharacters) {
+        if (minLength < 1 || maxLength < minLength) {
+            throw new IllegalArgumentException("Invalid password length range: " + minLength + ".." + maxLength);
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.requiredClasses = (requireUppercase ? UPPERCASE : 0) | (requireLowercase ? LOWERCASE : 0)
+                | (requireDigit ? DIGIT : 0) | (requireSpecial ? SPECIAL : 0);
+
+        for (char c = 'A'; c <= 'Z'; c++) {
+            classes[c] = UPPERCASE;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            classes[c] = LOWERCASE;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            classes[c] = DIGIT;
+        }
+        for (int i = 0; i < specialCharacters.length(); i++) {
+            char c = specialCharacters.charAt(i);
+            if (c >= ASCII) {
+                throw new IllegalArgumentException("Special characters must be ASCII: " + c);
+            }
+            classes[c] |= SPECIAL;
+        }
+
+        messages.put(Rule.MIN_LENGTH, "Password must be at least " + minLength + " characters long");
+        messages.put(Rule.MAX_LENGTH, "Password cannot exceed " + maxLength + " characters");
+        messages.put(Rule.UPPERCASE, "Password must contain at least one uppercase letter");
+        messages.put(Rule.LOWERCASE, "Password must contain at least one lowercase letter");
+        messages.put(Rule.DIGIT, "Password must contain at least one digit");
+        messages.put(Rule.SPECIAL, "Password must contain at least one special character");
+        this.empty = new PasswordService.PasswordValidationResult(
+                false, "Password cannot be empty", Collections.unmodifiableSet(EnumSet.of(Rule.MIN_LENGTH)));
+    }
+
+    /**
+     * The policy used when none is configured: 8 to 128 characters with an uppercase letter,
+     * a lowercase letter, a digit and one of {@link ${symbol_pound}DEFAULT_SPECIAL_CHARACTERS}.
+     *
+     * @return the default policy
+     */
+    public static PasswordPolicy defaults() {
+        return new PasswordPolicy(8, 128, true, true, true, true, DEFAULT_SPECIAL_CHARACTERS);
+    }
+
+    /**
+     * Checks a password against every rule.
+     *
+     * @param password the password to check
+     * @return the result, listing all failing rules
+     */
+    public PasswordService.PasswordValidationResult validate(String password) {
+        if (password == null || password.isEmpty()) {
+            return empty;
+        }
+
+        int length = password.length();
+        int seen = 0;
+        for (int i = 0; i < length && (seen & requiredClasses) != requiredClasses; i++) {
+            char c = password.charAt(i);
+            if (c < ASCII) {
+                seen |= classes[c];
+            }
+        }
+        int missing = requiredClasses & ~seen;
+
+        if (missing == 0 && length >= minLength && length <= maxLength) {
+            return PasswordService.PasswordValidationResult.VALID;
+        }
+
+        Set<Rule> violations = EnumSet.noneOf(Rule.class);
+        if (length < minLength) {
+            violations.add(Rule.MIN_LENGTH);
+        }
+        if (length > maxLength) {
+            violations.add(Rule.MAX_LENGTH);
+        }
+        if ((missing & UPPERCASE) != 0) {
+            violations.add(Rule.UPPERCASE);
+        }
+        if ((missing & LOWERCASE) != 0) {
+            violations.add(Rule.LOWERCASE);
+        }
+        if ((missing & DIGIT) != 0) {
+            violations.add(Rule.DIGIT);
+        }
+        if ((missing & SPECIAL) != 0) {
+            violations.add(Rule.SPECIAL);
+        }
+
+        StringJoiner message = new StringJoiner("; ");
+        for (Rule rule : violations) {
+            message.add(messages.get(rule));
+        }
+        return new PasswordService.PasswordValidationResult(
+                false, message.toString(), Collections.unmodifiableSet(violations));
+    }
+}
@@ -3,9 +3,13 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import ${package}.common.DomainException;
+import ${package}.common.ErrorCode;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 /**
  * Application service for password operations.
  * Encapsulates password hashing and validation logic.
@@ -14,13 +18,15 @@ import org.springframework.stereotype.Service;
 public class PasswordService {
 
     private final PasswordEncoder passwordEncoder;
+    private final PasswordPolicy passwordPolicy;
 
-    public PasswordService(PasswordEncoder passwordEncoder) {
+    public PasswordService(PasswordEncoder passwordEncoder, PasswordPolicy passwordPolicy) {
         this.passwordEncoder = passwordEncoder;
+        this.passwordPolicy = passwordPolicy;
     }
 
     /**
-     * Hashes a raw password using BCrypt.
+     * Hashes a raw password using the configured encoder.
      *
      * @param rawPassword the plain text password
      * @return the hashed password
@@ -41,52 +47,51 @@ public class PasswordService {
     }
 
     /**
-     * Validates password strength according to security requirements.
-     * Requirements:
-     * - Minimum 8 characters
-     * - At least one uppercase letter
-     * - At least one lowercase letter
-     * - At least one digit
-     * - At least one special character
+     * Checks whether a stored hash uses an outdated algorithm or cost and should be re-hashed.
+     *
+     * @param hashedPassword the stored password hash
+     * @return true if the password should be re-hashed on next successful login
+     */
+    public boolean needsRehash(String hashedPassword) {
+        return passwordEncoder.upgradeEncoding(hashedPassword);
+    }
+
+    /**
+     * Validates password strength against the configured {@link PasswordPolicy}.
      *
      * @param password the password to validate
-     * @return validation result with details
+     * @return validation result listing every failing rule
      */
     public PasswordValidationResult validatePasswordStrength(String password) {
-        if (password == null || password.isEmpty()) {
-            return new PasswordValidationResult(false, "Password cannot be empty");
-        }
-
-        if (password.length() < 8) {
-            return new PasswordValidationResult(false, "Password must be at least 8 characters long");
-        }
-
-        if (password.length() > 128) {
-            return new PasswordValidationResult(false, "Password cannot exceed 128 characters");
-        }
-
-        if (!password.matches(".*[A-Z].*")) {
-            return new PasswordValidationResult(false, "Password must contain at least one uppercase letter");
-        }
-
-        if (!password.matches(".*[a-z].*")) {
-            return new PasswordValidationResult(false, "Password must contain at least one lowercase letter");
-        }
-
-        if (!password.matches(".*\\d.*")) {
-            return new PasswordValidationResult(false, "Password must contain at least one digit");
-        }
+        return passwordPolicy.validate(password);
+    }
 
-        if (!password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*")) {
-            return new PasswordValidationResult(false, "Password must contain at least one special character");
-        }
+    /**
+     * Result of password validation.
+     *
+     * @param valid      whether the password satisfies the policy
+     * @param message    the failing rules' messages, or a confirmation when valid
+     * @param violations the failing rules, empty when valid
+     */
+    public record PasswordValidationResult(boolean valid, String message, Set<PasswordPolicy.Rule> violations) {
 
-        return new PasswordValidationResult(true, "Password meets all requirements");
+        static final PasswordValidationResult VALID =
+                new PasswordValidationResult(true, "Password meets all requirements", Set.of());
     }
 
     /**
-     * Result of password validation.
+     * Exception thrown when password hashing is at capacity and the request cannot be queued.
      */
-    public record PasswordValidationResult(boolean valid, String message) {
+    public static final class HashingCapacityExceededException extends DomainException {
+        public static final HashingCapacityExceededException QUEUE_FULL =
+                new HashingCapacityExceededException("Password hashing queue is full");
+        public static final HashingCapacityExceededException TIMED_OUT =
+                new HashingCapacityExceededException("Password hashing timed out");
+        public static final HashingCapacityExceededException INTERRUPTED =
+                new HashingCapacityExceededException("Interrupted while waiting for password hashing");
+
+        private HashingCapacityExceededException(String message) {
+            super(ErrorCode.SERVICE_UNAVAILABLE, message);
+        }
     }
 }
@@ -0,0 +1,36 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+/**
+ * Port interface for an approximate, in-memory set of registered emails and usernames.
+ * A {@code false} answer means the value is certainly not registered; {@code true} must be
+ * confirmed against the {@link UserRepository}. Lets most registrations skip the existence queries.
+ * Implementation provided by the infrastructure layer.
+ */
+public interface RegisteredUserIndex {
+
+    /**
+     * Checks whether an email may already be registered.
+     *
+     * @param email the email address
+     * @return false if no user has this email
+     */
+    boolean mightContainEmail(String email);
+
+    /**
+     * Checks whether a username may already be taken.
+     *
+     * @param username the username
+     * @return false if no user has this username
+     */
+    boolean mightContainUsername(String username);
+
+    /**
+     * Records the email and username of a newly saved user.
+     *
+     * @param user the saved user
+     */
+    void add(User user);
+}
@@ -3,6 +3,7 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -49,6 +50,14 @@ public interface TokenProvider {
      */
     boolean validateToken(String token);
 
+    /**
+     * Verifies an access token and decodes its claims in a single parse.
+     *
+     * @param token the token to verify
+     * @return the verified claims, or empty if the token is invalid or expired
+     */
+    Optional<VerifiedClaims> verifyAndDecode(String token);
+
     /**
      * Extracts user ID from token.
      *
@@ -3,9 +3,13 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import ${package}.common.DomainException;
+import ${package}.common.ErrorCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -18,13 +22,16 @@ public class TokenService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     public TokenService(TokenProvider tokenProvider,
                         RefreshTokenRepository refreshTokenRepository,
-                        UserRepository userRepository) {
+                        UserRepository userRepository,
+                        AccessTokenRevocationList accessTokenRevocationList) {
         this.tokenProvider = tokenProvider;
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
+        this.accessTokenRevocationList = accessTokenRevocationList;
     }
 
     /**
@@ -37,45 +44,45 @@ public class TokenService {
     public TokenPair generateTokens(User user) {
         String accessToken = tokenProvider.generateAccessToken(user);
 
-        // Create and persist refresh token
+        // Create and persist refresh token; only its hash is stored
+        String refreshTokenValue = tokenProvider.generateRefreshTokenValue();
         RefreshToken refreshToken = RefreshToken.create(
                 user,
-                tokenProvider.generateRefreshTokenValue(),
+                refreshTokenValue,
                 tokenProvider.getRefreshTokenExpiration()
         );
         refreshTokenRepository.save(refreshToken);
 
-        return new TokenPair(accessToken, refreshToken.getToken());
+        return new TokenPair(accessToken, refreshTokenValue);
     }
 
     /**
      * Refreshes the access token using a valid refresh token.
+     * The old token is revoked with a conditional update, so a token can be rotated only once
+     * even under concurrent requests; the user loaded with the token is reused for the new pair.
      *
      * @param refreshTokenValue the refresh token string
-     * @return new token pair if refresh token is valid
+     * @return new token pair and the token's user if refresh token is valid
      * @throws InvalidTokenException if refresh token is invalid or expired
      */
     @Transactional
-    public TokenPair refreshAccessToken(String refreshTokenValue) {
+    public RefreshResult refreshAccessToken(String refreshTokenValue) {
         RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
+                .orElseThrow(() -> InvalidTokenException.NOT_FOUND);
 
         if (refreshToken.isExpired()) {
-            throw new InvalidTokenException("Refresh token has expired");
+            throw InvalidTokenException.EXPIRED;
         }
 
-        if (refreshToken.isRevoked()) {
-            throw new InvalidTokenException("Refresh token has been revoked");
+        // Revoke old refresh token; losing a concurrent rotation counts as reuse
+        if (refreshToken.isRevoked() || !refreshTokenRepository.revokeIfActive(refreshToken.getId(), Instant.now())) {
+            throw InvalidTokenException.REVOKED;
         }
 
         User user = refreshToken.getUser();
 
-        // Revoke old refresh token
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
-
         // Generate new token pair
-        return generateTokens(user);
+        return new RefreshResult(generateTokens(user), user);
     }
 
     /**
@@ -108,13 +115,29 @@ public class TokenService {
     }
 
     /**
-     * Revokes all refresh tokens for a user.
+     * Revokes all refresh tokens for a user and every access token issued to them so far.
      *
      * @param userId the user ID
      */
     @Transactional
     public void revokeAllUserTokens(UUID userId) {
         refreshTokenRepository.revokeAllByUserId(userId);
+        accessTokenRevocationList.revokeAllIssuedBefore(userId, Instant.now());
+    }
+
+    /**
+     * Revokes the tokens of several users; refresh tokens are revoked with a single statement.
+     *
+     * @param userIds the user IDs
+     */
+    @Transactional
+    public void revokeAllUserTokens(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        refreshTokenRepository.revokeAllByUserIdIn(userIds);
+        Instant now = Instant.now();
+        userIds.forEach(userId -> accessTokenRevocationList.revokeAllIssuedBefore(userId, now));
     }
 
     /**
@@ -138,11 +161,21 @@ public class TokenService {
     }
 
     /**
-     * Exception thrown when a token is invalid.
+     * Result of a refresh token rotation.
      */
-    public static class InvalidTokenException extends RuntimeException {
-        public InvalidTokenException(String message) {
-            super(message);
+    public record RefreshResult(TokenPair tokenPair, User user) {
+    }
+
+    /**
+     * Exception thrown when a token is invalid. One preallocated instance per reason.
+     */
+    public static final class InvalidTokenException extends DomainException {
+        public static final InvalidTokenException NOT_FOUND = new InvalidTokenException("Refresh token not found");
+        public static final InvalidTokenException EXPIRED = new InvalidTokenException("Refresh token has expired");
+        public static final InvalidTokenException REVOKED = new InvalidTokenException("Refresh token has been revoked");
+
+        private InvalidTokenException(String message) {
+            super(ErrorCode.TOKEN_INVALID, message);
         }
     }
 }
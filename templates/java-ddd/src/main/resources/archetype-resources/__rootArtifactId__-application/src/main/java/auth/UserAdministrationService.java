@@ -0,0 +1,132 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Application service for admin operations on many users at once.
+ * Users are loaded with one IN query per chunk and changed through their domain methods; the
+ * resulting UPDATEs are sent as JDBC batches at flush (see {@code hibernate.jdbc.batch_size}).
+ * Tokens of changed users are revoked with one set-based UPDATE per chunk.
+ */
+@Service
+public class UserAdministrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAdministrationService.class);
+
+    /**
+     * IDs per IN list; keeps statements well below database bind parameter limits.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+
+    public UserAdministrationService(UserRepository userRepository, TokenService tokenService) {
+        this.userRepository = userRepository;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Enables the given users.
+     *
+     * @param userIds the user IDs
+     * @return one result per distinct ID, in request order
+     */
+    @Transactional
+    public List<BulkResult> enableUsers(Collection<UUID> userIds) {
+        return apply(userIds, user -> !user.isEnabled(), User::enable, false);
+    }
+
+    /**
+     * Disables the given users and revokes their tokens.
+     *
+     * @param userIds the user IDs
+     * @return one result per distinct ID, in request order
+     */
+    @Transactional
+    public List<BulkResult> disableUsers(Collection<UUID> userIds) {
+        return apply(userIds, User::isEnabled, User::disable, true);
+    }
+
+    /**
+     * Replaces the roles of the given users and revokes their tokens, so new roles apply on next login.
+     *
+     * @param userIds the user IDs
+     * @param roles   the new roles
+     * @return one result per distinct ID, in request order
+     */
+    @Transactional
+    public List<BulkResult> updateRoles(Collection<UUID> userIds, Set<Role> roles) {
+        return apply(userIds, user -> !user.getRoles().equals(roles), user -> user.updateRoles(roles), true);
+    }
+
+    private List<BulkResult> apply(Collection<UUID> userIds, Predicate<User> needsChange,
+                                   Consumer<User> change, boolean revokeTokens) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        List<BulkResult> results = new ArrayList<>(ids.size());
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            Map<UUID, User> users = userRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+
+            List<User> changed = new ArrayList<>();
+            for (UUID id : chunk) {
+                User user = users.get(id);
+                if (user == null) {
+                    results.add(new BulkResult(id, BulkStatus.NOT_FOUND));
+                } else if (needsChange.test(user)) {
+                    change.accept(user);
+                    changed.add(user);
+                    results.add(new BulkResult(id, BulkStatus.UPDATED));
+                } else {
+                    results.add(new BulkResult(id, BulkStatus.UNCHANGED));
+                }
+            }
+
+            if (!changed.isEmpty()) {
+                userRepository.saveAll(changed);
+                if (revokeTokens) {
+                    tokenService.revokeAllUserTokens(changed.stream().map(User::getId).toList());
+                }
+            }
+        }
+
+        logger.info("Bulk update of {} users: {} changed", ids.size(),
+                results.stream().filter(result -> result.status() == BulkStatus.UPDATED).count());
+        return results;
+    }
+
+    /**
+     * Outcome of a bulk operation for one user.
+     */
+    public enum BulkStatus {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND
+    }
+
+    /**
+     * Result of a bulk operation for one user.
+     */
+    public record BulkResult(UUID id, BulkStatus status) {
+    }
+}
@@ -3,15 +3,19 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import ${package}.common.DomainException;
+import ${package}.common.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
 
 /**
  * Application service for user registration operations.
+ * Uniqueness of email and username is enforced by the database; the existence queries only run when
+ * the {@link RegisteredUserIndex} cannot rule a value out, and give the common case a precise error.
  */
 @Service
 public class UserRegistrationService {
@@ -20,14 +24,20 @@ public class UserRegistrationService {
 
     private final UserRepository userRepository;
     private final PasswordService passwordService;
+    private final RegisteredUserIndex registeredUserIndex;
 
-    public UserRegistrationService(UserRepository userRepository, PasswordService passwordService) {
+    public UserRegistrationService(UserRepository userRepository,
+                                   PasswordService passwordService,
+                                   RegisteredUserIndex registeredUserIndex) {
         this.userRepository = userRepository;
         this.passwordService = passwordService;
+        this.registeredUserIndex = registeredUserIndex;
     }
 
     /**
      * Registers a new user with the provided details.
+     * Not transactional: the insert commits on its own, so no connection is held while the password
+     * is hashed, and a unique constraint violation can be attributed with fresh queries.
      *
      * @param command the registration command containing user details
      * @return the created user
@@ -35,18 +45,18 @@ public class UserRegistrationService {
      * @throws UsernameAlreadyExistsException if username is already taken
      * @throws WeakPasswordException if password doesn't meet strength requirements
      */
-    @Transactional
     public User register(RegisterCommand command) {
         logger.info("Processing registration for email: {}", command.email());
 
         // Validate email uniqueness
-        if (userRepository.existsByEmail(command.email())) {
-            throw new EmailAlreadyExistsException("Email is already registered: " + command.email());
+        if (registeredUserIndex.mightContainEmail(command.email()) && userRepository.existsByEmail(command.email())) {
+            throw EmailAlreadyExistsException.INSTANCE;
         }
 
         // Validate username uniqueness
-        if (userRepository.existsByUsername(command.username())) {
-            throw new UsernameAlreadyExistsException("Username is already taken: " + command.username());
+        if (registeredUserIndex.mightContainUsername(command.username())
+                && userRepository.existsByUsername(command.username())) {
+            throw UsernameAlreadyExistsException.INSTANCE;
         }
 
         // Validate password strength
@@ -68,13 +78,33 @@ public class UserRegistrationService {
                 Set.of(Role.USER)  // Default role
         );
 
-        // Persist user
-        User savedUser = userRepository.save(user);
+        // Persist user; the database has the final say on uniqueness
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOf(command, e);
+        }
+        registeredUserIndex.add(savedUser);
         logger.info("Successfully registered user with ID: {}", savedUser.getId());
 
         return savedUser;
     }
 
+    /**
+     * Maps a failed insert to the value that is already taken. The insert's transaction has been
+     * rolled back, so the existence queries run on a fresh one.
+     */
+    private RuntimeException duplicateOf(RegisterCommand command, DataIntegrityViolationException e) {
+        if (userRepository.existsByEmail(command.email())) {
+            return EmailAlreadyExistsException.INSTANCE;
+        }
+        if (userRepository.existsByUsername(command.username())) {
+            return UsernameAlreadyExistsException.INSTANCE;
+        }
+        return e;
+    }
+
     /**
      * Command object for user registration.
      */
@@ -90,27 +120,31 @@ public class UserRegistrationService {
     /**
      * Exception thrown when email is already registered.
      */
-    public static class EmailAlreadyExistsException extends RuntimeException {
-        public EmailAlreadyExistsException(String message) {
-            super(message);
+    public static final class EmailAlreadyExistsException extends DomainException {
+        public static final EmailAlreadyExistsException INSTANCE = new EmailAlreadyExistsException();
+
+        private EmailAlreadyExistsException() {
+            super(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
     }
 
     /**
      * Exception thrown when username is already taken.
      */
-    public static class UsernameAlreadyExistsException extends RuntimeException {
-        public UsernameAlreadyExistsException(String message) {
-            super(message);
+    public static final class UsernameAlreadyExistsException extends DomainException {
+        public static final UsernameAlreadyExistsException INSTANCE = new UsernameAlreadyExistsException();
+
+        private UsernameAlreadyExistsException() {
+            super(ErrorCode.USERNAME_ALREADY_EXISTS);
         }
     }
 
     /**
      * Exception thrown when password doesn't meet strength requirements.
      */
-    public static class WeakPasswordException extends RuntimeException {
+    public static class WeakPasswordException extends DomainException {
         public WeakPasswordException(String message) {
-            super(message);
+            super(ErrorCode.WEAK_PASSWORD, message);
         }
     }
 }
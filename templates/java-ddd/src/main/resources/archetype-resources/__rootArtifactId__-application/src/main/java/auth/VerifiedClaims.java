@@ -0,0 +1,30 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable claims of an access token whose signature and expiry have been verified.
+ * Produced once per token by {@link TokenProvider${symbol_pound}verifyAndDecode(String)}.
+ *
+ * @param userId    the subject (user ID)
+ * @param email     the user's email
+ * @param roles     the user's role names
+ * @param issuedAt  when the token was issued, to the millisecond
+ * @param expiresAt when the token expires
+ */
+public record VerifiedClaims(
+        UUID userId,
+        String email,
+        Set<String> roles,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public VerifiedClaims {
+        roles = Set.copyOf(roles);
+    }
+}
@@ -0,0 +1,69 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing and verification for each supported {@code jwt.algorithm}.
+ * The verified-token cache is off, so every verify pays for the signature check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+    private static final long EXPIRATION_MILLIS = Duration.ofHours(1).toMillis();
+
+    @Param({"HMAC", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtTokenProvider tokenProvider;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtSigningKeys signingKeys = new JwtSigningKeys(algorithm, SECRET, "", "", "",
+                Duration.ofHours(24), 3, Duration.ofMinutes(5), EXPIRATION_MILLIS, new StandardEnvironment());
+        tokenProvider = new JwtTokenProvider(signingKeys, EXPIRATION_MILLIS, EXPIRATION_MILLIS, "benchmark",
+                new DefaultListableBeanFactory().getBeanProvider(VerifiedTokenCache.class),
+                new SimpleMeterRegistry());
+        userId = UUID.randomUUID();
+        token = generate();
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateAccessToken(userId, "user@example.com", Set.of(Role.USER));
+    }
+
+    @Benchmark
+    public Optional<VerifiedClaims> verify() {
+        return tokenProvider.verifyAndDecode(token);
+    }
+}
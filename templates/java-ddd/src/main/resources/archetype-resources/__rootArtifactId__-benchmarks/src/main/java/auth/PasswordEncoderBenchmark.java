@@ -0,0 +1,68 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing throughput for each {@code password.encoder.algorithm}, with one thread per core
+ * as on a saturated hashing pool. Divide the score by the core count for hashes/s per core.
+ * {@code bcryptStrength} matches {@code password.encoder.bcrypt-strength}: pass
+ * {@code -p bcryptStrength=0} to calibrate to the default 50 ms target as at startup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(50);
+
+    @Param({"bcrypt", "argon2", "pbkdf2"})
+    public String algorithm;
+
+    @Param({"10"})
+    public int bcryptStrength;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : PasswordEncoderConfig.calibrateBCryptStrength(TARGET_LATENCY);
+        encoder = PasswordEncoderConfig.encoders(strength).get(algorithm);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,59 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password strength validation, which runs on every registration and password change: the single-pass
+ * {@link PasswordPolicy} against the chain of {@code String.matches} calls it replaced.
+ * Inputs cover a valid password and passwords rejected by the first and the last rule.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordServiceBenchmark {
+
+    @Param({"Str0ng!Passw0rd", "Ab1!", "Str0ngPassw0rd"})
+    public String password;
+
+    private PasswordService passwordService;
+
+    @Setup
+    public void setUp() {
+        // The encoder is not used by strength validation
+        passwordService = new PasswordService(new BCryptPasswordEncoder(4), PasswordPolicy.defaults());
+    }
+
+    @Benchmark
+    public PasswordService.PasswordValidationResult validatePasswordStrength() {
+        return passwordService.validatePasswordStrength(password);
+    }
+
+    @Benchmark
+    public boolean regexChain() {
+        return password.length() >= 8
+                && password.length() <= 128
+                && password.matches(".*[A-Z].*")
+                && password.matches(".*[a-z].*")
+                && password.matches(".*\\d.*")
+                && password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*");
+    }
+}
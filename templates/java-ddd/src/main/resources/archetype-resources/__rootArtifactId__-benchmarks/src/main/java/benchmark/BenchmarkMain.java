@@ -0,0 +1,35 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ * Runs JMH with its usual command line, but writes results as JSON unless {@code -rf} is given,
+ * to {@code jmh-result.json} unless {@code -rff} is given, so every run leaves a file to compare against.
+ */
+public final class BenchmarkMain {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-rff")) {
+            jmhArgs.addAll(0, List.of("-rff", DEFAULT_RESULT_FILE));
+        }
+        if (!jmhArgs.contains("-rf")) {
+            // JMH defaults to CSV, even when -rff names a .json file
+            jmhArgs.addAll(0, List.of("-rf", "json"));
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,266 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * End-to-end load test comparing platform and virtual request threads at the same connection pool size.
+ *
+ * <p>Starts the application jar once per mode ({@code VIRTUAL_THREADS_ENABLED=false}, then {@code true}),
+ * registers and logs in a user, drives an authenticated endpoint from a fixed number of concurrent
+ * clients, and prints throughput and latency percentiles for both runs. The user cache is turned off, so
+ * every request reads the database through {@code DB_POOL_SIZE} connections. Application output goes to
+ * {@code loadtest-platform.log} and {@code loadtest-virtual.log}.
+ *
+ * <pre>
+ * java -cp ${rootArtifactId}-benchmarks/target/benchmarks.jar ${package}.benchmark.ThreadModeLoadTest \
+ *     ${rootArtifactId}-bootstrap/target/${rootArtifactId}-bootstrap-${version}.jar
+ * </pre>
+ *
+ * <p>Settings are system properties: {@code load.pool-size} (10), {@code load.concurrency} (400),
+ * {@code load.warmup} (15s), {@code load.duration} (60s) and {@code load.path} ({@code /api/users/me}).
+ * Virtual threads need the application to run on Java 21 or later.
+ */
+public final class ThreadModeLoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private ThreadModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: ThreadModeLoadTest <application jar>");
+            System.exit(2);
+        }
+        File jar = new File(args[0]);
+        int poolSize = Integer.getInteger("load.pool-size", 10);
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        Duration warmup = Duration.parse("PT" + System.getProperty("load.warmup", "15s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "60s"));
+        String path = System.getProperty("load.path", "/api/users/me");
+        if (Runtime.version().feature() < 21) {
+            System.err.println("Java " + Runtime.version().feature()
+                    + " has no virtual threads; both runs will use platform threads.");
+        }
+
+        System.out.printf("DB_POOL_SIZE=%d, %d clients, %s warmup, %s measured, GET %s%n",
+                poolSize, concurrency, warmup, duration, path);
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(jar, virtualThreads, poolSize, concurrency, warmup, duration, path));
+        }
+
+        System.out.printf("%n%-10s %10s %10s %10s %10s %8s%n",
+                "threads", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %10d %10.1f %10.2f %10.2f %8d%n", result.mode(), result.requests(),
+                    result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99), result.errors());
+        }
+    }
+
+    private static Result run(File jar, boolean virtualThreads, int poolSize, int concurrency,
+                              Duration warmup, Duration duration, String path) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        int port = freePort();
+        ProcessBuilder builder = new ProcessBuilder(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-jar", jar.getAbsolutePath(), "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("loadtest-" + mode + ".log"));
+        builder.environment().put("VIRTUAL_THREADS_ENABLED", String.valueOf(virtualThreads));
+        builder.environment().put("DB_POOL_SIZE", String.valueOf(poolSize));
+        builder.environment().put("USERS_CACHE_ENABLED", "false");
+        builder.environment().put("RATE_LIMIT_ENABLED", "false");
+        builder.environment().put("TRACING_ENABLED", "false");
+
+        System.out.printf("%nStarting %s threads on port %d%n", mode, port);
+        Process app = builder.start();
+        try {
+            String base = "http://localhost:" + port;
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            awaitStartup(client, base, app);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Authorization", "Bearer " + login(client, base))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            System.out.printf("Warming up for %s%n", warmup);
+            drive(client, request, concurrency, warmup);
+            System.out.printf("Measuring for %s%n", duration);
+            return drive(client, request, concurrency, duration).named(mode);
+        } finally {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        }
+    }
+
+    private static Result drive(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Client[] clients = new Client[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Client worker = new Client(client, request, deadline, done);
+            clients[i] = worker;
+            Thread thread = new Thread(worker, "load-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        int total = 0;
+        long errors = 0;
+        for (Client worker : clients) {
+            total += worker.count;
+            errors += worker.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Client worker : clients) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+        return new Result(null, latencies, errors, duration);
+    }
+
+    private static void awaitStartup(HttpClient client, String base, Process app) throws Exception {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(base + "/actuator/health")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + app.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT);
+    }
+
+    private static String login(HttpClient client, String base) throws Exception {
+        String credentials = "\"email\":\"loadtest@example.com\",\"password\":\"Load@Test1\"";
+        post(client, base + "/api/auth/register", "{\"username\":\"loadtest\"," + credentials + "}");
+        String body = post(client, base + "/api/auth/login", "{" + credentials + "}");
+        Matcher matcher = ACCESS_TOKEN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login failed: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    private static String post(HttpClient client, String url, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Sends requests back to back until the deadline, recording the latency of each successful one.
+     */
+    private static final class Client implements Runnable {
+
+        private final HttpClient client;
+        private final HttpRequest request;
+        private final long deadline;
+        private final CountDownLatch done;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        Client(HttpClient client, HttpRequest request, long deadline, CountDownLatch done) {
+            this.client = client;
+            this.request = request;
+            this.deadline = deadline;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            try {
+                long start;
+                while ((start = System.nanoTime()) < deadline) {
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status != 200) {
+                            errors++;
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        errors++;
+                        continue;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    /**
+     * Outcome of one measured run.
+     *
+     * @param latencies sorted latencies of successful requests, in nanoseconds
+     */
+    private record Result(String mode, long[] latencies, long errors, Duration duration) {
+
+        Result named(String name) {
+            return new Result(name, latencies, errors, duration);
+        }
+
+        int requests() {
+            return latencies.length;
+        }
+
+        double throughput() {
+            return latencies.length / (duration.toMillis() / 1000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
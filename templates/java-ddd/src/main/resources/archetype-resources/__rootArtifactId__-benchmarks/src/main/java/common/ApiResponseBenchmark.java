@@ -0,0 +1,129 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import ${package}.auth.UserController.UserProfileResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the {@link ApiResponse} envelope through an HTTP message converter, for a single object,
+ * a page of 20 objects and an error. {@code jackson} is Spring's default converter, {@code envelope}
+ * is {@link ApiResponseHttpMessageConverter}. Run with {@code -prof gc} to compare bytes allocated
+ * per response ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiResponseBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jackson", "envelope"})
+    public String converter;
+
+    private MappingJackson2HttpMessageConverter messageConverter;
+    private ReusableOutputMessage output;
+    private UserProfileResponse user;
+    private List<UserProfileResponse> page;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot configures
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        messageConverter = "envelope".equals(converter)
+                ? new ApiResponseHttpMessageConverter(objectMapper)
+                : new MappingJackson2HttpMessageConverter(objectMapper);
+        output = new ReusableOutputMessage();
+        user = profile(0);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(profile(i));
+        }
+        MDC.put(TraceIdContext.TRACE_ID_KEY, TraceIdContext.generateTraceId());
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public int success() throws IOException {
+        return write(ApiResponse.success(user));
+    }
+
+    @Benchmark
+    public int successPage() throws IOException {
+        return write(ApiResponse.success(page));
+    }
+
+    @Benchmark
+    public int error() throws IOException {
+        return write(ApiResponse.error(ErrorCode.USER_NOT_FOUND.getCode(), ErrorCode.USER_NOT_FOUND.getMessage()));
+    }
+
+    private int write(ApiResponse<?> response) throws IOException {
+        output.body.reset();
+        messageConverter.write(response, null, MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    private static UserProfileResponse profile(int i) {
+        return new UserProfileResponse(UUID.randomUUID(), "user" + i, "user" + i + "@example.com",
+                "First", "Last", Set.of("USER"), true);
+    }
+
+    /**
+     * Output message whose buffer is reused, so only the converter's own allocations are measured.
+     */
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(16 * 1024);
+
+        ReusableOutputMessage() {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import ${package}.auth.AuthenticationService;
+import ${package}.auth.UserController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throwing and catching an expected failure at a given call depth: a stack-traced
+ * {@link RuntimeException} as thrown before {@link DomainException}, a new stackless domain
+ * exception, and a preallocated one. A Spring MVC request is typically 100+ frames deep.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainExceptionBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Benchmark
+    public RuntimeException stackTraced() {
+        return throwAt(depth, () -> new RuntimeException("User not found with ID: " + depth));
+    }
+
+    @Benchmark
+    public RuntimeException stackless() {
+        return throwAt(depth, () -> new UserController.UserNotFoundException("User not found with ID: " + depth));
+    }
+
+    @Benchmark
+    public RuntimeException preallocated() {
+        return throwAt(depth, () -> AuthenticationService.InvalidCredentialsException.INSTANCE);
+    }
+
+    private static RuntimeException throwAt(int depth, ExceptionFactory factory) {
+        try {
+            recurse(depth, factory);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void recurse(int depth, ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+        recurse(depth - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+}
@@ -0,0 +1,85 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import ${package}.auth.GlobalExceptionHandler;
+import ${package}.auth.UserController;
+import ${package}.auth.UserController.UserProfileResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ResponseWrapper} advice as Spring MVC calls it for every response body:
+ * {@code supports} for a controller method and an exception handler, then {@code beforeBodyWrite}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseWrapperBenchmark {
+
+    private static final Class<? extends HttpMessageConverter<?>> CONVERTER =
+            MappingJackson2HttpMessageConverter.class;
+
+    private ResponseWrapper responseWrapper;
+    private MethodParameter controllerReturnType;
+    private MethodParameter handlerReturnType;
+    private ServerHttpRequest request;
+    private ServerHttpResponse response;
+    private UserProfileResponse body;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        responseWrapper = new ResponseWrapper();
+        controllerReturnType = new MethodParameter(UserController.class.getMethod("getCurrentUser"), -1);
+        handlerReturnType = new MethodParameter(GlobalExceptionHandler.class.getMethod(
+                "handleValidationException", MethodArgumentNotValidException.class, HttpServletRequest.class), -1);
+        request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/api/users/me"));
+        response = new ServletServerHttpResponse(new MockHttpServletResponse());
+        body = new UserProfileResponse(UUID.randomUUID(), "user", "user@example.com",
+                "First", "Last", Set.of("USER"), true);
+    }
+
+    @Benchmark
+    public boolean supportsController() {
+        return responseWrapper.supports(controllerReturnType, CONVERTER);
+    }
+
+    @Benchmark
+    public boolean supportsExceptionHandler() {
+        return responseWrapper.supports(handlerReturnType, CONVERTER);
+    }
+
+    @Benchmark
+    public Object beforeBodyWrite() {
+        return responseWrapper.beforeBodyWrite(body, controllerReturnType, MediaType.APPLICATION_JSON,
+                CONVERTER, request, response);
+    }
+}
@@ -0,0 +1,110 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.filter;
+
+import ${package}.common.InMemorySpanExporter;
+import ${package}.common.SpanExporter;
+import ${package}.common.TraceIdContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Trace ID handling on every request: validation and generation, each next to the regex and
+ * {@link UUID} versions it replaced, and a full pass through {@link TraceIdFilter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraceIdFilterBenchmark {
+
+    private static final Pattern LEGACY_TRACE_ID_PATTERN = Pattern.compile("^[a-zA-Z0-9-]+${symbol_dollar}");
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    /**
+     * Incoming trace ID header: a W3C trace ID, a UUID with hyphens, or a log injection attempt.
+     */
+    @State(Scope.Benchmark)
+    public static class IncomingTraceId {
+
+        @Param({"4bf92f3577b34da6a3ce929d0e0e4736", "0af76519-16cd-43dd-8448-eb211c80319c", "abc%0AFAKE-LOG-LINE"})
+        public String traceId;
+    }
+
+    /**
+     * Filter with span export off (tracing disabled) or to the in-memory exporter.
+     */
+    @State(Scope.Benchmark)
+    public static class FilterState {
+
+        @Param({"none", "memory"})
+        public String exporter;
+
+        TraceIdFilter filter;
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(IncomingTraceId incoming) {
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            if ("memory".equals(exporter)) {
+                beanFactory.registerSingleton("spanExporter", new InMemorySpanExporter(500));
+            }
+            filter = new TraceIdFilter(beanFactory.getBeanProvider(SpanExporter.class));
+            request = new MockHttpServletRequest("GET", "/api/users/me");
+            request.addHeader(TraceIdContext.TRACE_ID_HEADER, incoming.traceId);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public boolean validate(IncomingTraceId incoming) {
+        return TraceIdFilter.isValidTraceId(incoming.traceId);
+    }
+
+    @Benchmark
+    public boolean validateLegacyRegex(IncomingTraceId incoming) {
+        String traceId = incoming.traceId;
+        return StringUtils.hasText(traceId) && traceId.length() <= 64
+                && LEGACY_TRACE_ID_PATTERN.matcher(traceId).matches();
+    }
+
+    @Benchmark
+    public String generate() {
+        return TraceIdContext.generateTraceId();
+    }
+
+    @Benchmark
+    public String generateLegacyUuid() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filter(FilterState state) throws ServletException, IOException {
+        state.filter.doFilter(state.request, state.response, NO_OP_CHAIN);
+        return state.response;
+    }
+}
@@ -0,0 +1,11 @@
+-- =====================================================
+-- Schema Version: V3
+-- Description: Index for keyset pagination of users
+-- Compatible: MySQL 8.0+, PostgreSQL 12+, H2
+-- =====================================================
+
+-- -----------------------------------------------------
+-- Indexes: (created_at, id) matches the admin listing order,
+-- so each page is a range scan from the previous cursor
+-- -----------------------------------------------------
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
@@ -0,0 +1,15 @@
+-- =====================================================
+-- Schema Version: V4
+-- Description: Record when refresh tokens were revoked
+-- Compatible: MySQL 8.0+, PostgreSQL 12+, H2
+-- =====================================================
+
+-- -----------------------------------------------------
+-- Table: refresh_tokens
+-- Description: Revoked tokens are purged a retention period after
+-- revocation. Tokens revoked before this migration start their
+-- retention now.
+-- -----------------------------------------------------
+ALTER TABLE refresh_tokens ADD COLUMN revoked_at TIMESTAMP NULL;  -- Revocation time, NULL while active
+
+UPDATE refresh_tokens SET revoked_at = CURRENT_TIMESTAMP WHERE revoked = TRUE;
@@ -4,11 +4,15 @@
 package ${package}.auth;
 
 import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.UUID;
 
 /**
  * Domain entity representing a refresh token for obtaining new access tokens.
+ * Only the SHA-256 digest of the token value is stored; the raw value is handed to the client once.
  */
 @Entity
 @Table(name = "refresh_tokens")
@@ -18,8 +22,8 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -31,6 +35,9 @@ public class RefreshToken {
     @Column(nullable = false)
     private boolean revoked = false;
 
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -39,7 +46,7 @@ public class RefreshToken {
     }
 
     public RefreshToken(String token, User user, Instant expiresAt) {
-        this.token = token;
+        this.tokenHash = hash(token);
         this.user = user;
         this.expiresAt = expiresAt;
         this.revoked = false;
@@ -58,6 +65,20 @@ public class RefreshToken {
         return new RefreshToken(token, user, expiresAt);
     }
 
+    /**
+     * Computes the stored digest of a refresh token value.
+     *
+     * @param token the raw token string
+     * @return the SHA-256 digest of the token's UTF-8 bytes
+     */
+    public static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = Instant.now();
@@ -68,8 +89,8 @@ public class RefreshToken {
         return id;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash.clone();
     }
 
     public User getUser() {
@@ -84,13 +105,20 @@ public class RefreshToken {
         return revoked;
     }
 
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
 
     // Business methods
     public void revoke() {
-        this.revoked = true;
+        if (!revoked) {
+            this.revoked = true;
+            this.revokedAt = Instant.now();
+        }
     }
 
     public boolean isExpired() {
@@ -3,6 +3,8 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,7 +29,27 @@ public interface RefreshTokenRepository {
      * @param token the token string
      * @return an Optional containing the refresh token if found
      */
-    Optional<RefreshToken> findByToken(String token);
+    default Optional<RefreshToken> findByToken(String token) {
+        return findByTokenHash(RefreshToken.hash(token));
+    }
+
+    /**
+     * Find a refresh token by the SHA-256 digest of its token string.
+     *
+     * @param tokenHash the token digest
+     * @return an Optional containing the refresh token if found
+     */
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * Revoke a refresh token only if it is still active.
+     * Used for rotation: of two concurrent refreshes with the same token, exactly one succeeds.
+     *
+     * @param id  the refresh token ID
+     * @param now the current time
+     * @return true if the token was active and is now revoked
+     */
+    boolean revokeIfActive(UUID id, Instant now);
 
     /**
      * Find all refresh tokens for a user.
@@ -60,9 +82,52 @@ public interface RefreshTokenRepository {
     void deleteByUserId(UUID userId);
 
     /**
-     * Revoke all refresh tokens for a user.
+     * Revoke all active refresh tokens for a user.
      *
      * @param userId the user ID
      */
     void revokeAllByUserId(UUID userId);
+
+    /**
+     * Revoke all active refresh tokens of several users in one statement.
+     *
+     * @param userIds the user IDs
+     * @return the number of revoked tokens
+     */
+    int revokeAllByUserIdIn(Collection<UUID> userIds);
+
+    /**
+     * Find IDs of refresh tokens that can be purged, in ascending ID order.
+     * A token is purgeable once it has expired, or once it was revoked before the given cutoff.
+     *
+     * @param now           the current time
+     * @param revokedBefore purge tokens revoked before this instant
+     * @param afterId       only return IDs greater than this one (keyset cursor)
+     * @param limit         the maximum number of IDs to return
+     * @return the purgeable token IDs
+     */
+    List<UUID> findPurgeableIds(Instant now, Instant revokedBefore, UUID afterId, int limit);
+
+    /**
+     * Count all stored refresh tokens, including expired and revoked ones not yet purged.
+     *
+     * @return the number of stored tokens
+     */
+    long count();
+
+    /**
+     * Count refresh tokens that are neither revoked nor expired.
+     *
+     * @param now the current time
+     * @return the number of active tokens
+     */
+    long countActive(Instant now);
+
+    /**
+     * Delete refresh tokens by ID.
+     *
+     * @param ids the refresh token IDs
+     * @return the number of deleted tokens
+     */
+    int deleteAllByIdIn(Collection<UUID> ids);
 }
@@ -75,6 +75,26 @@ public class User {
         return user;
     }
 
+    /**
+     * Returns a detached copy of this user with its own role set.
+     *
+     * @return the copy
+     */
+    public User copy() {
+        User copy = new User();
+        copy.id = id;
+        copy.username = username;
+        copy.email = email;
+        copy.passwordHash = passwordHash;
+        copy.firstName = firstName;
+        copy.lastName = lastName;
+        copy.roles = new HashSet<>(roles);
+        copy.enabled = enabled;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        return copy;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = Instant.now();
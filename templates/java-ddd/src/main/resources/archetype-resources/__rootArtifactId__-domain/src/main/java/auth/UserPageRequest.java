@@ -0,0 +1,33 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Keyset page request for listing users in (createdAt, id) order.
+ *
+ * @param enabled        only users with this status, or null for all
+ * @param role           only users with this role, or null for all
+ * @param afterCreatedAt creation time of the last user of the previous page, or null for the first page
+ * @param afterId        ID of the last user of the previous page, or null for the first page
+ * @param limit          the maximum number of users to return
+ */
+public record UserPageRequest(Boolean enabled, Role role, Instant afterCreatedAt, UUID afterId, int limit) {
+
+    /**
+     * Returns the request for the page following the given user.
+     *
+     * @param last the last user of the current page
+     * @return the next page request with the same filters
+     */
+    public UserPageRequest after(User last) {
+        return new UserPageRequest(enabled, role, last.getCreatedAt(), last.getId(), limit);
+    }
+
+    public boolean isFirstPage() {
+        return afterCreatedAt == null || afterId == null;
+    }
+}
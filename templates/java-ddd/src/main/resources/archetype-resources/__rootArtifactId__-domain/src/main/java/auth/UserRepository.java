@@ -20,6 +20,23 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * Save a user entity and write it to the store immediately, so constraint violations
+     * surface from this call instead of at commit.
+     *
+     * @param user the user to save
+     * @return the saved user
+     */
+    <S extends User> S saveAndFlush(S user);
+
+    /**
+     * Save several user entities; writes are batched where the store supports it.
+     *
+     * @param users the users to save
+     * @return the saved users
+     */
+    <S extends User> java.util.List<S> saveAll(Iterable<S> users);
+
     /**
      * Find all users.
      *
@@ -35,6 +52,23 @@ public interface UserRepository {
      */
     Optional<User> findById(UUID id);
 
+    /**
+     * Find the users with the given identifiers; unknown IDs are skipped.
+     *
+     * @param ids the user IDs
+     * @return the users found, in no particular order
+     */
+    java.util.List<User> findAllById(Iterable<UUID> ids);
+
+    /**
+     * Find a page of users in (createdAt, id) order, starting after the request's cursor.
+     * Unlike offset paging, the cost of a page does not grow with its position.
+     *
+     * @param request the filters, cursor and page size
+     * @return up to {@code request.limit()} users
+     */
+    java.util.List<User> findPage(UserPageRequest request);
+
     /**
      * Find a user by their email address.
      *
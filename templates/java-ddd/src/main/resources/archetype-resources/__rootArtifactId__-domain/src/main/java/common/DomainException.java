@@ -0,0 +1,39 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+/**
+ * Base class for expected business failures, such as bad credentials or a duplicate email.
+ * These exceptions carry an {@link ErrorCode} and no stack trace. Filling in a stack trace is the
+ * main cost of throwing, and for expected failures nobody reads it. Suppression is also off, so
+ * an instance with a fixed message has no mutable state and can be kept in a constant and rethrown.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    /**
+     * Creates an exception whose message is the error code's default message.
+     *
+     * @param errorCode the error code
+     */
+    protected DomainException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    /**
+     * Creates an exception with a specific message.
+     *
+     * @param errorCode the error code
+     * @param message   the message returned to the client
+     */
+    protected DomainException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
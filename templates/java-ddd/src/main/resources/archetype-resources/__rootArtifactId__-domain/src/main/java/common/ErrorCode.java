@@ -33,6 +33,7 @@ public enum ErrorCode {
     // Validation errors (3000-3999)
     VALIDATION_ERROR(3000, "Validation failed"),
     INVALID_PARAMETER(3001, "Invalid parameter"),
+    INVALID_CURRENT_PASSWORD(3002, "Current password is incorrect"),
 
     // Business errors (4000-4999)
     RESOURCE_NOT_FOUND(4000, "Resource not found"),
@@ -41,6 +42,7 @@ public enum ErrorCode {
     USERNAME_ALREADY_EXISTS(4003, "Username is already taken"),
     WEAK_PASSWORD(4004, "Password does not meet requirements"),
     CONFLICT(4005, "Operation conflicts with current state"),
+    TOO_MANY_REQUESTS(4006, "Too many requests, try again later"),
 
     // System errors (5000-5999)
     INTERNAL_ERROR(5000, "Internal server error"),
@@ -0,0 +1,103 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import ${package}.common.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registered emails and usernames in two Bloom filters, keyed case-insensitively.
+ * The filters are sized from the user count and filled by streaming the {@code users} table once the
+ * application is ready; until then every value counts as possibly registered. New users are added as
+ * they are saved. Users registered on other instances or deleted later only cost extra queries or a
+ * failed insert, never a wrong answer, because the database enforces uniqueness.
+ */
+@Component
+public class BloomRegisteredUserIndex implements RegisteredUserIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BloomRegisteredUserIndex.class);
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedUsers;
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter usernames;
+    private volatile boolean warmed;
+
+    public BloomRegisteredUserIndex(
+            DataSource dataSource,
+            @Value("${symbol_dollar}{users.bloom.expected-users:100000}") long expectedUsers) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.expectedUsers = expectedUsers;
+        this.emails = new BloomFilter(expectedUsers, FALSE_POSITIVE_PROBABILITY);
+        this.usernames = new BloomFilter(expectedUsers, FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Fills the filters from the {@code users} table. Rows are fetched {@value ${symbol_pound}FETCH_SIZE} at a time
+     * where the driver supports it, inside a read-only transaction so PostgreSQL uses a cursor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warm() {
+        long start = System.nanoTime();
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        long capacity = Math.max(expectedUsers, 2 * (count != null ? count : 0));
+        if (capacity > expectedUsers) {
+            // A user saved during the swap may miss the new filters; that only costs a failed insert
+            emails = new BloomFilter(capacity, FALSE_POSITIVE_PROBABILITY);
+            usernames = new BloomFilter(capacity, FALSE_POSITIVE_PROBABILITY);
+        }
+
+        AtomicLong loaded = new AtomicLong();
+        jdbcTemplate.query("SELECT email, username FROM users", (RowCallbackHandler) rs -> {
+            emails.add(keyOf(rs.getString(1)));
+            usernames.add(keyOf(rs.getString(2)));
+            loaded.incrementAndGet();
+        });
+        warmed = true;
+        logger.info("Loaded {} users into the registration Bloom filters (sized for {}) in {} ms",
+                loaded.get(), capacity, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public boolean mightContainEmail(String email) {
+        return !warmed || emails.mightContain(keyOf(email));
+    }
+
+    @Override
+    public boolean mightContainUsername(String username) {
+        return !warmed || usernames.mightContain(keyOf(username));
+    }
+
+    @Override
+    public void add(User user) {
+        emails.add(keyOf(user.getEmail()));
+        usernames.add(keyOf(user.getUsername()));
+    }
+
+    /**
+     * Lower-cases before hashing, so a case-insensitive database collation never sees a
+     * "definitely new" value it considers a duplicate.
+     */
+    private static long keyOf(String value) {
+        return BloomFilter.key(value.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,152 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache in front of {@link JpaUserRepository} for lookups by ID.
+ * The cache holds a private snapshot of each user and every read returns a fresh detached copy,
+ * so callers keep the usual load-modify-save pattern without seeing each other's unsaved changes.
+ * Every write through this repository evicts the user, again once its transaction completes so a
+ * concurrent read cannot cache the old row until the TTL. Lookups by email or username always
+ * go to the database because they drive authentication.
+ * Metrics are published under the {@code users} cache name.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "users.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final Cache<UUID, User> byId;
+
+    public CachingUserRepository(
+            JpaUserRepository delegate,
+            MeterRegistry meterRegistry,
+            @Value("${symbol_dollar}{users.cache.max-size:10000}") long maxSize,
+            @Value("${symbol_dollar}{users.cache.ttl:60s}") Duration ttl) {
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users");
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        // Misses are not cached: the loader returns null for unknown IDs
+        User snapshot = byId.get(id, key -> delegate.findById(key).map(User::copy).orElse(null));
+        return Optional.ofNullable(snapshot).map(User::copy);
+    }
+
+    @Override
+    public User save(User user) {
+        try {
+            return delegate.save(user);
+        } finally {
+            evict(user.getId());
+        }
+    }
+
+    @Override
+    public <S extends User> S saveAndFlush(S user) {
+        try {
+            return delegate.saveAndFlush(user);
+        } finally {
+            evict(user.getId());
+        }
+    }
+
+    @Override
+    public <S extends User> List<S> saveAll(Iterable<S> users) {
+        try {
+            return delegate.saveAll(users);
+        } finally {
+            users.forEach(user -> evict(user.getId()));
+        }
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            evict(id);
+        }
+    }
+
+    /**
+     * Drops a user from the cache now and, inside a transaction, again once it completes.
+     * Reads between the write and the commit may cache the old row; on rollback, a read inside the
+     * transaction may have cached uncommitted changes.
+     *
+     * @param id the user ID
+     */
+    public void evict(UUID id) {
+        if (id == null) {
+            return;
+        }
+        byId.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    byId.invalidate(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<User> findPage(UserPageRequest request) {
+        return delegate.findPage(request);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+}
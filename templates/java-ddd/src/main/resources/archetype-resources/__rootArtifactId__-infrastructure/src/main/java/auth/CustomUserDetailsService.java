@@ -3,6 +3,7 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,6 +11,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.stream.Collectors;
 
 /**
@@ -35,14 +37,32 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
                 .collect(Collectors.toSet());
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPasswordHash(),
-                user.isEnabled(),
-                true, // accountNonExpired
-                true, // credentialsNonExpired
-                true, // accountNonLocked
-                authorities
-        );
+        return new LoginUserDetails(user, authorities);
+    }
+
+    /**
+     * User details that keep the loaded user aggregate for the rest of the login flow.
+     */
+    static class LoginUserDetails extends org.springframework.security.core.userdetails.User implements LoginPrincipal {
+
+        private final transient User user;
+
+        LoginUserDetails(User user, Collection<? extends GrantedAuthority> authorities) {
+            super(
+                    user.getEmail(),
+                    user.getPasswordHash(),
+                    user.isEnabled(),
+                    true, // accountNonExpired
+                    true, // credentialsNonExpired
+                    true, // accountNonLocked
+                    authorities
+            );
+            this.user = user;
+        }
+
+        @Override
+        public User getUser() {
+            return user;
+        }
     }
 }
@@ -0,0 +1,81 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level and query cache for {@link User}, its roles and the email/username lookups.
+ * Caches are local JCache (Caffeine) regions, bounded in size and expired after write, so on several
+ * instances a change made elsewhere is visible here after at most {@code entity-cache.ttl}.
+ * The domain module only depends on the JPA API, so regions are declared here through Hibernate
+ * properties rather than annotations on the entity.
+ * Enabled with {@code entity-cache.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "entity-cache", name = "enabled", havingValue = "true")
+public class HibernateCacheConfig {
+
+    /**
+     * Query hint that stores a query's result in the query cache; ignored when the cache is disabled.
+     */
+    public static final String CACHEABLE_HINT = "org.hibernate.cacheable";
+
+    private static final String USER_REGION = User.class.getName();
+    private static final String ROLES_REGION = USER_REGION + ".roles";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * Identifies a cache manager of its own, so closing it on shutdown leaves the provider's shared
+     * default manager, and any caches other code created there, untouched.
+     */
+    private static final URI CACHE_MANAGER_URI = URI.create(HibernateCacheConfig.class.getName());
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${symbol_dollar}{entity-cache.max-size:10000}") long maxSize,
+            @Value("${symbol_dollar}{entity-cache.ttl:10m}") Duration ttl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, HibernateCacheConfig.class.getClassLoader());
+
+        for (String region : List.of(USER_REGION, ROLES_REGION, QUERY_RESULTS_REGION)) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        // Update timestamps must outlive every cached query result, so this region is never evicted
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(AvailableSettings.CLASS_CACHE_PREFIX + "." + USER_REGION, "read-write");
+            properties.put(AvailableSettings.COLLECTION_CACHE_PREFIX + "." + ROLES_REGION, "read-write");
+        };
+    }
+}
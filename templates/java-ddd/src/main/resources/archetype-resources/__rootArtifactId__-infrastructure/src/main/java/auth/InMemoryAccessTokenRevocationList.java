@@ -0,0 +1,83 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import ${package}.common.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory access token revocation list.
+ * A Bloom filter answers "never revoked" for almost every user without touching the watermark map;
+ * the map holds the exact (userId, revokedBefore) watermarks. Watermarks are dropped once every token
+ * they cover has expired, and the Bloom filter is rebuilt at the same time.
+ *
+ * <p>State is per instance: in a cluster, revocations only take effect on the node that recorded them.
+ */
+@Component
+public class InMemoryAccessTokenRevocationList implements AccessTokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryAccessTokenRevocationList.class);
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final Map<UUID, Instant> watermarks = new ConcurrentHashMap<>();
+    private final long accessTokenExpiration;
+    private final long expectedRevocations;
+
+    private volatile BloomFilter bloomFilter;
+    private Instant lastPurge = Instant.now();
+
+    public InMemoryAccessTokenRevocationList(
+            @Value("${symbol_dollar}{jwt.access-token-expiration}") long accessTokenExpiration,
+            @Value("${symbol_dollar}{jwt.revocation.expected-revocations:10000}") long expectedRevocations) {
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.expectedRevocations = expectedRevocations;
+        this.bloomFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_PROBABILITY);
+    }
+
+    @Override
+    public synchronized void revokeAllIssuedBefore(UUID userId, Instant revokedBefore) {
+        purgeExpired(Instant.now());
+        // Issue times have millisecond precision; a token minted in the watermark's millisecond is revoked
+        Instant watermark = revokedBefore.truncatedTo(ChronoUnit.MILLIS);
+        watermarks.merge(userId, watermark, (current, next) -> next.isAfter(current) ? next : current);
+        bloomFilter.add(BloomFilter.key(userId));
+    }
+
+    @Override
+    public boolean isRevoked(UUID userId, Instant issuedAt) {
+        if (!bloomFilter.mightContain(BloomFilter.key(userId))) {
+            return false;
+        }
+        Instant revokedBefore = watermarks.get(userId);
+        return revokedBefore != null && !issuedAt.isAfter(revokedBefore);
+    }
+
+    /**
+     * Drops watermarks older than the access token lifetime and rebuilds the Bloom filter.
+     * Runs at most once per token lifetime, under the same lock as revocations so none is lost.
+     */
+    private void purgeExpired(Instant now) {
+        if (lastPurge.plusMillis(accessTokenExpiration).isAfter(now)) {
+            return;
+        }
+        Instant cutoff = now.minusMillis(accessTokenExpiration);
+        watermarks.values().removeIf(revokedBefore -> revokedBefore.isBefore(cutoff));
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, watermarks.size()), FALSE_POSITIVE_PROBABILITY);
+        watermarks.keySet().forEach(userId -> rebuilt.add(BloomFilter.key(userId)));
+        this.bloomFilter = rebuilt;
+        this.lastPurge = now;
+        logger.debug("Purged expired revocation watermarks, {} remaining", watermarks.size());
+    }
+}
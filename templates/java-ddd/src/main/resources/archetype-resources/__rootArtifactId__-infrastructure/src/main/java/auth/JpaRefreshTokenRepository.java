@@ -3,6 +3,8 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,7 +25,19 @@ import java.util.UUID;
 public interface JpaRefreshTokenRepository extends JpaRepository<RefreshToken, UUID>, RefreshTokenRepository {
 
     @Override
-    Optional<RefreshToken> findByToken(String token);
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user u LEFT JOIN FETCH u.roles WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Override
+    default boolean revokeIfActive(UUID id, Instant now) {
+        return revokeActiveById(id, now) == 1;
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now"
+            + " WHERE rt.id = :id AND rt.revoked = false AND rt.expiresAt > :now")
+    int revokeActiveById(@Param("id") UUID id, @Param("now") Instant now);
 
     @Override
     @Query("SELECT rt FROM RefreshToken rt WHERE rt.user.id = :userId")
@@ -42,9 +57,46 @@ public interface JpaRefreshTokenRepository extends JpaRepository<RefreshToken, U
     @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId")
     void deleteByUserId(@Param("userId") UUID userId);
 
+    @Override
+    default void revokeAllByUserId(UUID userId) {
+        revokeAllByUserIdAt(userId, Instant.now());
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now"
+            + " WHERE rt.user.id = :userId AND rt.revoked = false")
+    int revokeAllByUserIdAt(@Param("userId") UUID userId, @Param("now") Instant now);
+
+    @Override
+    default int revokeAllByUserIdIn(Collection<UUID> userIds) {
+        return revokeAllByUserIdInAt(userIds, Instant.now());
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now"
+            + " WHERE rt.user.id IN :userIds AND rt.revoked = false")
+    int revokeAllByUserIdInAt(@Param("userIds") Collection<UUID> userIds, @Param("now") Instant now);
+
+    @Override
+    default List<UUID> findPurgeableIds(Instant now, Instant revokedBefore, UUID afterId, int limit) {
+        return findPurgeableIds(now, revokedBefore, afterId, PageRequest.of(0, limit));
+    }
+
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.id > :afterId"
+            + " AND (rt.expiresAt < :now OR (rt.revoked = true AND rt.revokedAt < :revokedBefore))"
+            + " ORDER BY rt.id")
+    List<UUID> findPurgeableIds(@Param("now") Instant now, @Param("revokedBefore") Instant revokedBefore,
+                                @Param("afterId") UUID afterId, Pageable pageable);
+
+    @Override
+    @Query("SELECT COUNT(rt) FROM RefreshToken rt WHERE rt.revoked = false AND rt.expiresAt > :now")
+    long countActive(@Param("now") Instant now);
+
     @Override
     @Modifying
     @Transactional
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.user.id = :userId")
-    void revokeAllByUserId(@Param("userId") UUID userId);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -3,7 +3,10 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,12 +16,15 @@ import java.util.UUID;
  * Spring Data JPA repository for User entity.
  */
 @Repository
-public interface JpaUserRepository extends JpaRepository<User, UUID>, UserRepository {
+public interface JpaUserRepository extends JpaRepository<User, UUID>, UserRepository, UserPageQuery {
 
     @Override
+    @EntityGraph(attributePaths = "roles")
+    @QueryHints(@QueryHint(name = HibernateCacheConfig.CACHEABLE_HINT, value = "true"))
     Optional<User> findByEmail(String email);
 
     @Override
+    @QueryHints(@QueryHint(name = HibernateCacheConfig.CACHEABLE_HINT, value = "true"))
     Optional<User> findByUsername(String username);
 
     @Override
@@ -32,10 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenProvider tokenProvider;
+    private final AccessTokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(TokenProvider tokenProvider, AccessTokenRevocationList revocationList) {
+        this.tokenProvider = tokenProvider;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -45,24 +47,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                Set<String> roles = jwtTokenProvider.getRolesFromToken(jwt);
-
-                var authorities = roles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .collect(Collectors.toSet());
-
-                var authentication = new UsernamePasswordAuthenticationToken(
-                        new AuthenticatedUser(userId, email, roles),
-                        null,
-                        authorities
-                );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("Set authentication for user: {}", email);
+            if (StringUtils.hasText(jwt)) {
+                tokenProvider.verifyAndDecode(jwt)
+                        .filter(this::isNotRevoked)
+                        .ifPresent(claims -> authenticate(request, claims));
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e.getMessage());
@@ -71,6 +59,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isNotRevoked(VerifiedClaims claims) {
+        if (revocationList.isRevoked(claims.userId(), claims.issuedAt())) {
+            logger.debug("Rejected revoked token for user: {}", claims.userId());
+            return false;
+        }
+        return true;
+    }
+
+    private void authenticate(HttpServletRequest request, VerifiedClaims claims) {
+        var authorities = claims.roles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toSet());
+
+        var authentication = new UsernamePasswordAuthenticationToken(
+                AuthenticatedUser.from(claims),
+                null,
+                authorities
+        );
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        logger.debug("Set authentication for user: {}", claims.email());
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -94,6 +106,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             this.roles = roles;
         }
 
+        /**
+         * Creates a principal from verified token claims.
+         */
+        public static AuthenticatedUser from(VerifiedClaims claims) {
+            return new AuthenticatedUser(claims.userId(), claims.email(), claims.roles());
+        }
+
         @Override
         public UUID getId() {
             return id;
@@ -0,0 +1,383 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Key ring for signing and verifying access tokens.
+ *
+ * <p>Supported {@code jwt.algorithm} values:
+ * <ul>
+ *   <li>{@code HMAC} (default) - a single shared secret from {@code jwt.secret}</li>
+ *   <li>{@code ES256} - ECDSA P-256 key pairs</li>
+ *   <li>{@code EdDSA} - Ed25519 key pairs</li>
+ * </ul>
+ *
+ * <p>Asymmetric tokens carry a {@code kid} header. Keys shared by every instance of a cluster come from
+ * {@code jwt.keys.set}, a list of Base64 PKCS${symbol_pound}8 / X.509 DER key pairs, each with a {@code kid}
+ * and a {@link ConfiguredKey.Status status}: one {@code active} key signs, an optional {@code next} key is
+ * published for verification ahead of a rotation, and {@code retired} keys only verify. A {@code next} key
+ * with an {@code activate-at} time takes over signing at that instant on every instance. The older
+ * {@code jwt.keys.private-key} and {@code jwt.keys.public-key} properties configure a single active key.
+ *
+ * <p>Without configured keys, a key pair is generated per instance and rotated every
+ * {@code jwt.keys.rotation-interval}. In both modes the next key is in the published JWK Set at least
+ * {@code jwt.keys.jwks-max-age} before it signs, so verifiers holding a cached set have refetched it by the
+ * time they see the new {@code kid}. Superseded generated keys stay available for verification, and in the
+ * published JWK Set, until every token they signed has expired.
+ */
+@Component
+public class JwtSigningKeys implements JwkSetProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtSigningKeys.class);
+
+    private final String algorithmName;
+    private final SignatureAlgorithm algorithm;
+    private final Duration rotationInterval;
+    private final Duration jwksMaxAge;
+    private final long accessTokenExpiration;
+    private final int maxKeys;
+
+    private volatile KeyRing ring;
+
+    public JwtSigningKeys(
+            @Value("${symbol_dollar}{jwt.algorithm:HMAC}") String algorithmName,
+            @Value("${symbol_dollar}{jwt.secret}") String secret,
+            @Value("${symbol_dollar}{jwt.keys.key-id:}") String keyId,
+            @Value("${symbol_dollar}{jwt.keys.private-key:}") String privateKey,
+            @Value("${symbol_dollar}{jwt.keys.public-key:}") String publicKey,
+            @Value("${symbol_dollar}{jwt.keys.rotation-interval:24h}") Duration rotationInterval,
+            @Value("${symbol_dollar}{jwt.keys.max-keys:3}") int maxKeys,
+            @Value("${symbol_dollar}{jwt.keys.jwks-max-age:5m}") Duration jwksMaxAge,
+            @Value("${symbol_dollar}{jwt.access-token-expiration}") long accessTokenExpiration,
+            Environment environment) {
+        this.algorithmName = algorithmName;
+        this.jwksMaxAge = jwksMaxAge;
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.maxKeys = Math.max(1, maxKeys);
+        Instant now = Instant.now();
+
+        switch (algorithmName) {
+            case "HMAC" -> {
+                this.algorithm = null;
+                this.rotationInterval = Duration.ZERO;
+                SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+                this.ring = new KeyRing(new SigningKey(null, secretKey, secretKey, null, now, null), null, List.of());
+            }
+            case "ES256", "EdDSA" -> {
+                this.algorithm = "ES256".equals(algorithmName) ? Jwts.SIG.ES256 : Jwts.SIG.EdDSA;
+                List<ConfiguredKey> keySet = Binder.get(environment)
+                        .bind("jwt.keys.set", Bindable.listOf(ConfiguredKey.class))
+                        .orElseGet(List::of);
+                if (StringUtils.hasText(privateKey)) {
+                    if (!keySet.isEmpty()) {
+                        throw new IllegalStateException(
+                                "Configure either jwt.keys.private-key or jwt.keys.set, not both");
+                    }
+                    String kid = StringUtils.hasText(keyId) ? keyId : algorithmName.toLowerCase() + "-1";
+                    keySet = List.of(new ConfiguredKey(kid, ConfiguredKey.Status.ACTIVE, privateKey, publicKey, null));
+                }
+                if (!keySet.isEmpty()) {
+                    this.rotationInterval = Duration.ZERO;
+                    this.ring = configuredRing(keySet, now);
+                } else {
+                    this.rotationInterval = rotationInterval;
+                    this.ring = new KeyRing(generateKey(now), null, List.of());
+                    logger.warn("No jwt.keys.set configured; using a generated {} key pair. "
+                            + "Tokens will not verify on other instances.", algorithmName);
+                }
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unsupported jwt.algorithm '" + algorithmName + "' (expected HMAC, ES256 or EdDSA)");
+        }
+    }
+
+    /**
+     * Gets the key that signs new tokens. Publishes the next key when a rotation is coming up,
+     * and promotes it once its activation time has passed.
+     *
+     * @return the active signing key
+     */
+    public SigningKey activeKey() {
+        return currentRing(Instant.now()).active();
+    }
+
+    /**
+     * Finds the verification key for a token's {@code kid} header.
+     *
+     * @param kid the key ID from the token header (null for HMAC tokens)
+     * @return the verification key, or null if the key is unknown or retired
+     */
+    public Key verificationKey(String kid) {
+        KeyRing current = ring;
+        if (algorithm == null) {
+            return current.active().verificationKey();
+        }
+        for (SigningKey key : current.keys()) {
+            if (key.kid().equals(kid)) {
+                return key.verificationKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, Object> getPublicJwkSet() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        if (algorithm != null) {
+            for (SigningKey key : currentRing(Instant.now()).keys()) {
+                jwks.add(new LinkedHashMap<>(Jwks.builder()
+                        .key((PublicKey) key.verificationKey())
+                        .id(key.kid())
+                        .algorithm(algorithm.getId())
+                        .publicKeyUse("sig")
+                        .build()));
+            }
+        }
+        return Map.of("keys", jwks);
+    }
+
+    @Override
+    public Duration getPublicJwkSetMaxAge() {
+        return jwksMaxAge;
+    }
+
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    private KeyRing currentRing(Instant now) {
+        KeyRing current = ring;
+        return isPublishDue(current, now) || isPromotionDue(current, now) ? advance(now) : current;
+    }
+
+    /**
+     * Publishes a generated next key, or promotes the next key to active, whichever is due.
+     */
+    private synchronized KeyRing advance(Instant now) {
+        // Another thread may have advanced the ring while this one waited for the lock
+        KeyRing current = ring;
+        if (isPublishDue(current, now)) {
+            Instant activeFrom = current.active().activeFrom().plus(rotationInterval);
+            if (activeFrom.isBefore(now.plus(jwksMaxAge))) {
+                activeFrom = now.plus(jwksMaxAge);
+            }
+            current = new KeyRing(current.active(), generateKey(activeFrom), current.retired());
+            logger.info("Published next {} signing key {}, signing from {}",
+                    algorithmName, current.next().kid(), activeFrom);
+        }
+        if (isPromotionDue(current, now)) {
+            List<SigningKey> retired = new ArrayList<>();
+            retired.add(current.active().retire(now));
+            retired.addAll(current.retired());
+            // Configured retired keys have no retirement time and are kept; generated ones expire
+            retired.removeIf(key -> key.retiredAt() != null
+                    && !key.retiredAt().plusMillis(accessTokenExpiration).isAfter(now));
+            if (!rotationInterval.isZero() && retired.size() > maxKeys - 1) {
+                retired = retired.subList(0, maxKeys - 1);
+            }
+            current = new KeyRing(current.next(), null, List.copyOf(retired));
+            logger.info("Rotated {} signing key, active kid: {}", algorithmName, current.active().kid());
+        }
+        this.ring = current;
+        return current;
+    }
+
+    private boolean isPublishDue(KeyRing current, Instant now) {
+        return current.next() == null && !rotationInterval.isZero()
+                && !now.isBefore(current.active().activeFrom().plus(rotationInterval).minus(jwksMaxAge));
+    }
+
+    private static boolean isPromotionDue(KeyRing current, Instant now) {
+        return current.next() != null && current.next().activeFrom() != null
+                && !now.isBefore(current.next().activeFrom());
+    }
+
+    private KeyRing configuredRing(List<ConfiguredKey> keySet, Instant now) {
+        SigningKey active = null;
+        SigningKey next = null;
+        List<SigningKey> retired = new ArrayList<>();
+        Set<String> kids = new HashSet<>();
+        for (int i = 0; i < keySet.size(); i++) {
+            ConfiguredKey key = keySet.get(i);
+            String property = "jwt.keys.set[" + i + "]";
+            if (!StringUtils.hasText(key.kid()) || !kids.add(key.kid())) {
+                throw new IllegalStateException(property + ".kid must be set and unique");
+            }
+            if (key.status() == null) {
+                throw new IllegalStateException(property + ".status must be active, next or retired");
+            }
+            PublicKey publicKey = decodePublicKey(key.publicKey(), property + ".public-key");
+            switch (key.status()) {
+                case ACTIVE -> {
+                    if (active != null) {
+                        throw new IllegalStateException("jwt.keys.set must have exactly one active key");
+                    }
+                    active = new SigningKey(key.kid(), decodePrivateKey(key.privateKey(), property + ".private-key"),
+                            publicKey, algorithm, now, null);
+                }
+                case NEXT -> {
+                    if (next != null) {
+                        throw new IllegalStateException("jwt.keys.set must have at most one next key");
+                    }
+                    next = new SigningKey(key.kid(), decodePrivateKey(key.privateKey(), property + ".private-key"),
+                            publicKey, algorithm, key.activateAt(), null);
+                }
+                case RETIRED -> retired.add(new SigningKey(key.kid(), null, publicKey, algorithm, null, null));
+            }
+        }
+        if (active == null) {
+            throw new IllegalStateException("jwt.keys.set must have exactly one active key");
+        }
+        if (next != null && next.activeFrom() != null && next.activeFrom().isBefore(now.plus(jwksMaxAge))) {
+            logger.warn("Next signing key {} activates at {}, less than jwt.keys.jwks-max-age ({}) from now. "
+                    + "Verifiers may reject its tokens until their cached JWK Set expires.",
+                    next.kid(), next.activeFrom(), jwksMaxAge);
+        }
+        return new KeyRing(active, next, List.copyOf(retired));
+    }
+
+    private SigningKey generateKey(Instant activeFrom) {
+        KeyPair pair = algorithm == Jwts.SIG.ES256
+                ? Jwts.SIG.ES256.keyPair().build()
+                : Jwks.CRV.Ed25519.keyPair().build();
+        String kid = UUID.randomUUID().toString();
+        return new SigningKey(kid, pair.getPrivate(), pair.getPublic(), algorithm, activeFrom, null);
+    }
+
+    private String keyFactoryAlgorithm() {
+        return algorithm == Jwts.SIG.ES256 ? "EC" : "Ed25519";
+    }
+
+    private PrivateKey decodePrivateKey(String base64, String property) {
+        if (!StringUtils.hasText(base64)) {
+            throw new IllegalStateException(property + " is required for a signing key");
+        }
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm())
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + property + ": " + e.getMessage(), e);
+        }
+    }
+
+    private PublicKey decodePublicKey(String base64, String property) {
+        if (!StringUtils.hasText(base64)) {
+            throw new IllegalStateException(property + " is required");
+        }
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm())
+                    .generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + property + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One entry of {@code jwt.keys.set}.
+     *
+     * @param kid        the key ID published in the JWK Set and the token header
+     * @param status     whether the key signs, is about to sign, or only verifies
+     * @param privateKey Base64 PKCS${symbol_pound}8 DER private key, required unless retired
+     * @param publicKey  Base64 X.509 DER public key
+     * @param activateAt when a {@code next} key takes over signing; without it the key waits to be
+     *                   marked {@code active}
+     */
+    public record ConfiguredKey(
+            String kid,
+            Status status,
+            String privateKey,
+            String publicKey,
+            Instant activateAt
+    ) {
+        public enum Status {
+            ACTIVE,
+            NEXT,
+            RETIRED
+        }
+    }
+
+    /**
+     * The active key, the published next key (if any) and the keys that only verify.
+     */
+    private record KeyRing(SigningKey active, SigningKey next, List<SigningKey> retired) {
+
+        List<SigningKey> keys() {
+            List<SigningKey> keys = new ArrayList<>(retired.size() + 2);
+            keys.add(active);
+            if (next != null) {
+                keys.add(next);
+            }
+            keys.addAll(retired);
+            return keys;
+        }
+    }
+
+    /**
+     * A signing key and its verification counterpart.
+     * For HMAC both keys are the shared secret and {@code kid} and {@code algorithm} are null.
+     * Retired configured keys have no signing key.
+     *
+     * @param activeFrom when the key started (or starts) signing; null if not scheduled
+     * @param retiredAt  when the key stopped signing; null while active or for configured keys
+     */
+    public record SigningKey(
+            String kid,
+            Key signingKey,
+            Key verificationKey,
+            SignatureAlgorithm algorithm,
+            Instant activeFrom,
+            Instant retiredAt
+    ) {
+        /**
+         * Applies this key to a token builder, adding the {@code kid} header for asymmetric keys.
+         */
+        public JwtBuilder sign(JwtBuilder builder) {
+            if (algorithm == null) {
+                // jjwt picks HS256/384/512 from the secret length
+                return builder.signWith((SecretKey) signingKey);
+            }
+            return builder.header().keyId(kid).and()
+                    .signWith((PrivateKey) signingKey, algorithm);
+        }
+
+        SigningKey retire(Instant when) {
+            return new SigningKey(kid, signingKey, verificationKey, algorithm, activeFrom, when);
+        }
+    }
+}
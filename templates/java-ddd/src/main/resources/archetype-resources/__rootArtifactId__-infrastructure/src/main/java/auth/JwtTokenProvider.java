@@ -4,44 +4,93 @@
 package ${package}.auth;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT token provider for creating and validating JWT tokens.
  * Implements the TokenProvider interface from application layer.
+ * Signature checks are timed as {@code jwt.verify}, tagged with the outcome ({@code result}).
  */
 @Component
 public class JwtTokenProvider implements TokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    private final SecretKey secretKey;
+    /**
+     * Issue time in epoch milliseconds. The standard {@code iat} claim has second precision, which is
+     * too coarse to tell a token minted just before a revocation from one minted just after it.
+     */
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    /** Pre-joined "roles" claim values, indexed by the bitmask of role ordinals */
+    private static final String[] ROLE_CLAIMS = buildRoleClaims();
+
+    private final JwtSigningKeys signingKeys;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private final String issuer;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Timer verifyValid;
+    private final Timer verifyExpired;
+    private final Timer verifyMalformed;
+    private final Timer verifyUnsupported;
+    private final Timer verifySignature;
+    private final Timer verifyEmpty;
+    private final Timer verifyError;
 
     public JwtTokenProvider(
-            @Value("${symbol_dollar}{jwt.secret}") String secret,
+            JwtSigningKeys signingKeys,
             @Value("${symbol_dollar}{jwt.access-token-expiration}") long accessTokenExpiration,
             @Value("${symbol_dollar}{jwt.refresh-token-expiration}") long refreshTokenExpiration,
-            @Value("${symbol_dollar}{jwt.issuer}") String issuer) {
-        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(
-                java.util.Base64.getEncoder().encodeToString(secret.getBytes())));
+            @Value("${symbol_dollar}{jwt.issuer}") String issuer,
+            ObjectProvider<VerifiedTokenCache> verifiedTokenCache,
+            MeterRegistry meterRegistry) {
+        this.signingKeys = signingKeys;
+        // JwtParser is immutable and thread-safe, so one instance serves every request;
+        // the key locator resolves the verification key from the kid header on each parse
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeys.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.issuer = issuer;
+        this.verifiedTokenCache = verifiedTokenCache.getIfAvailable();
+        this.verifyValid = verifyTimer(meterRegistry, "valid");
+        this.verifyExpired = verifyTimer(meterRegistry, "expired");
+        this.verifyMalformed = verifyTimer(meterRegistry, "malformed");
+        this.verifyUnsupported = verifyTimer(meterRegistry, "unsupported");
+        this.verifySignature = verifyTimer(meterRegistry, "signature");
+        this.verifyEmpty = verifyTimer(meterRegistry, "empty");
+        this.verifyError = verifyTimer(meterRegistry, "error");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verify")
+                .description("JWT parse and signature verification time, excluding verified-token cache hits")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     /**
@@ -53,22 +102,17 @@ public class JwtTokenProvider implements TokenProvider {
      * @return the generated JWT access token
      */
     public String generateAccessToken(UUID userId, String email, Set<Role> roles) {
-        Instant now = Instant.now();
-        Instant expiry = now.plusMillis(accessTokenExpiration);
-
-        String rolesString = roles.stream()
-                .map(Role::name)
-                .collect(Collectors.joining(","));
+        long now = System.currentTimeMillis();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userId.toString())
                 .claim("email", email)
-                .claim("roles", rolesString)
+                .claim("roles", rolesClaim(roles))
                 .issuer(issuer)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(expiry))
-                .signWith(secretKey)
-                .compact();
+                .issuedAt(new Date(now))
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
+                .expiration(new Date(now + accessTokenExpiration));
+        return signingKeys.activeKey().sign(builder).compact();
     }
 
     /**
@@ -133,24 +177,44 @@ public class JwtTokenProvider implements TokenProvider {
      * @return true if the token is valid
      */
     public boolean validateToken(String token) {
+        return parseVerifiedClaims(token) != null;
+    }
+
+    /**
+     * Verify a JWT token and decode its claims with a single signature check.
+     * When the verified-token cache is enabled, a repeated token is served from the cache.
+     *
+     * @param token the JWT token
+     * @return the verified claims, or empty if the token is invalid
+     */
+    public Optional<VerifiedClaims> verifyAndDecode(String token) {
+        if (verifiedTokenCache != null) {
+            VerifiedClaims cached = verifiedTokenCache.get(token);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Claims claims = parseVerifiedClaims(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            logger.warn("JWT token is expired: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            logger.warn("Invalid JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            logger.warn("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            logger.warn("JWT claims string is empty: {}", e.getMessage());
-        } catch (Exception e) {
-            logger.warn("JWT validation error: {}", e.getMessage());
+            VerifiedClaims verified = new VerifiedClaims(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    parseRoles(claims),
+                    issuedAt(claims),
+                    claims.getExpiration().toInstant()
+            );
+            if (verifiedTokenCache != null) {
+                verifiedTokenCache.put(token, verified);
+            }
+            return Optional.of(verified);
+        } catch (RuntimeException e) {
+            logger.warn("JWT claims are incomplete: {}", e.getMessage());
+            return Optional.empty();
         }
-        return false;
     }
 
     /**
@@ -182,7 +246,41 @@ public class JwtTokenProvider implements TokenProvider {
      * @return set of roles
      */
     public Set<String> getRolesFromToken(String token) {
-        Claims claims = getClaims(token);
+        return parseRoles(getClaims(token));
+    }
+
+    private static String rolesClaim(Set<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= 1 << role.ordinal();
+        }
+        return ROLE_CLAIMS[mask];
+    }
+
+    private static String[] buildRoleClaims() {
+        Role[] values = Role.values();
+        String[] claims = new String[1 << values.length];
+        for (int mask = 0; mask < claims.length; mask++) {
+            StringJoiner joiner = new StringJoiner(",");
+            for (Role role : values) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    joiner.add(role.name());
+                }
+            }
+            claims[mask] = joiner.toString();
+        }
+        return claims;
+    }
+
+    /**
+     * The millisecond issue time, or {@code iat} for tokens minted without it.
+     */
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis) : claims.getIssuedAt().toInstant();
+    }
+
+    private Set<String> parseRoles(Claims claims) {
         String rolesString = claims.get("roles", String.class);
         if (rolesString == null || rolesString.isEmpty()) {
             return Set.of();
@@ -190,11 +288,42 @@ public class JwtTokenProvider implements TokenProvider {
         return Set.of(rolesString.split(","));
     }
 
+    /**
+     * Parse and verify a token, logging the failure reason and timing the outcome.
+     *
+     * @return the verified claims, or null if the token is invalid
+     */
+    private Claims parseVerifiedClaims(String token) {
+        long start = System.nanoTime();
+        Timer outcome = verifyError;
+        try {
+            Claims claims = getClaims(token);
+            outcome = verifyValid;
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = verifyExpired;
+            logger.warn("JWT token is expired: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            outcome = verifyMalformed;
+            logger.warn("Invalid JWT token: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            outcome = verifyUnsupported;
+            logger.warn("Unsupported JWT token: {}", e.getMessage());
+        } catch (SecurityException e) {
+            outcome = verifySignature;
+            logger.warn("JWT signature is invalid: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            outcome = verifyEmpty;
+            logger.warn("JWT claims string is empty: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.warn("JWT validation error: {}", e.getMessage());
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return null;
+    }
+
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
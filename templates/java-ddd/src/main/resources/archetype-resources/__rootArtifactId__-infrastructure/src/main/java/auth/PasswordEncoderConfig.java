@@ -0,0 +1,109 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Password encoder configuration.
+ * New hashes are written with {@code password.encoder.algorithm} and a {@code {id}} prefix; hashes
+ * without a prefix are read as BCrypt. Hashing runs on a bounded pool (see {@link BoundedPasswordEncoder})
+ * sized by {@code password.hashing.*}. Strength rules come from {@code password.policy.*}.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    private static final String BCRYPT = "bcrypt";
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final int CALIBRATION_ROUNDS = 5;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${symbol_dollar}{password.encoder.algorithm:bcrypt}") String algorithm,
+            @Value("${symbol_dollar}{password.encoder.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${symbol_dollar}{password.encoder.target-latency:50ms}") Duration targetLatency,
+            @Value("${symbol_dollar}{password.hashing.threads:0}") int threads,
+            @Value("${symbol_dollar}{password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${symbol_dollar}{password.hashing.timeout:5s}") Duration timeout) {
+        int strength = bcryptStrength > 0 ? bcryptStrength : calibrateBCryptStrength(targetLatency);
+        Map<String, PasswordEncoder> encoders = encoders(strength);
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("Unsupported password.encoder.algorithm: " + algorithm);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        logger.info("Password encoder: {} (bcrypt strength {})", algorithm, strength);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, timeout, meterRegistry);
+    }
+
+    @Bean
+    public PasswordPolicy passwordPolicy(
+            @Value("${symbol_dollar}{password.policy.min-length:8}") int minLength,
+            @Value("${symbol_dollar}{password.policy.max-length:128}") int maxLength,
+            @Value("${symbol_dollar}{password.policy.require-uppercase:true}") boolean requireUppercase,
+            @Value("${symbol_dollar}{password.policy.require-lowercase:true}") boolean requireLowercase,
+            @Value("${symbol_dollar}{password.policy.require-digit:true}") boolean requireDigit,
+            @Value("${symbol_dollar}{password.policy.require-special:true}") boolean requireSpecial,
+            @Value("${symbol_dollar}{password.policy.special-characters:}") String specialCharacters) {
+        String special = specialCharacters.isEmpty() ? PasswordPolicy.DEFAULT_SPECIAL_CHARACTERS : specialCharacters;
+        return new PasswordPolicy(minLength, maxLength, requireUppercase, requireLowercase, requireDigit,
+                requireSpecial, special);
+    }
+
+    /**
+     * The supported encoders by {@code {id}} prefix, with BCrypt at the given strength.
+     */
+    static Map<String, PasswordEncoder> encoders(int bcryptStrength) {
+        return Map.of(
+                BCRYPT, new BCryptPasswordEncoder(bcryptStrength),
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+    }
+
+    /**
+     * Picks the highest BCrypt strength whose single-core hash time stays within the target.
+     * One hash is timed at a low strength and extrapolated: each strength step doubles the work.
+     */
+    static int calibrateBCryptStrength(Duration targetLatency) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration-warmup");
+        long start = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            probe.encode("calibration-" + i);
+        }
+        double probeNanos = (double) (System.nanoTime() - start) / CALIBRATION_ROUNDS;
+
+        int strength = MIN_BCRYPT_STRENGTH;
+        double targetNanos = targetLatency.toNanos();
+        while (strength < MAX_BCRYPT_STRENGTH
+                && probeNanos * Math.pow(2, strength + 1 - CALIBRATION_STRENGTH) <= targetNanos) {
+            strength++;
+        }
+        double hashNanos = probeNanos * Math.pow(2, strength - CALIBRATION_STRENGTH);
+        logger.info("Calibrated bcrypt strength {} for {} ms target: ~{} ms per hash, ~{} hashes/s per core",
+                strength, targetLatency.toMillis(), Math.round(hashNanos / 1_000_000),
+                Math.round(1_000_000_000 / hashNanos));
+        return strength;
+    }
+}
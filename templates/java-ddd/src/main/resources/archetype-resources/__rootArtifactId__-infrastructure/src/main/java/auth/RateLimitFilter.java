@@ -0,0 +1,311 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import ${package}.common.ErrorCode;
+import ${package}.common.TraceIdContext;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits login and registration before any password is hashed.
+ * Each endpoint has a token bucket per client IP and, when configured, per email in the JSON body;
+ * a request needs a token from both. Buckets live in bounded Caffeine maps and expire once full
+ * again. Rejected requests get a 429 with {@code Retry-After} and the {@code ApiResponse} error
+ * body, written from precomputed bytes. Runs before {@link JwtAuthenticationFilter}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    /** Bodies up to this size are scanned for the email; larger ones are only limited per IP */
+    private static final int MAX_SCANNED_BODY = 4096;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final byte[] REJECTION_PREFIX = ("{\"code\":"
+            + ErrorCode.TOO_MANY_REQUESTS.getCode() + ",\"message\":\""
+            + ErrorCode.TOO_MANY_REQUESTS.getMessage() + "\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRACE_ID_FIELD = ",\"traceId\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REJECTION_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRACE_ID_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, EndpointLimit> limitsByPath;
+
+    public RateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${symbol_dollar}{rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${symbol_dollar}{rate-limit.login.per-ip:20}") long loginPerIp,
+            @Value("${symbol_dollar}{rate-limit.login.per-email:5}") long loginPerEmail,
+            @Value("${symbol_dollar}{rate-limit.login.period:PT1M}") Duration loginPeriod,
+            @Value("${symbol_dollar}{rate-limit.register.per-ip:10}") long registerPerIp,
+            @Value("${symbol_dollar}{rate-limit.register.per-email:3}") long registerPerEmail,
+            @Value("${symbol_dollar}{rate-limit.register.period:PT10M}") Duration registerPeriod) {
+        this.limitsByPath = Map.of(
+                "/api/auth/login", new EndpointLimit("login",
+                        KeyedLimiter.of("login", "ip", loginPerIp, loginPeriod, maxKeys, meterRegistry),
+                        KeyedLimiter.of("login", "email", loginPerEmail, loginPeriod, maxKeys, meterRegistry)),
+                "/api/auth/register", new EndpointLimit("register",
+                        KeyedLimiter.of("register", "ip", registerPerIp, registerPeriod, maxKeys, meterRegistry),
+                        KeyedLimiter.of("register", "email", registerPerEmail, registerPeriod, maxKeys, meterRegistry)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !limitsByPath.containsKey(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointLimit limit = limitsByPath.get(request.getServletPath());
+        long now = System.nanoTime();
+
+        if (limit.perIp() != null) {
+            long wait = limit.perIp().tryConsume(request.getRemoteAddr(), now);
+            if (wait > 0) {
+                reject(response, limit.name(), "ip", wait);
+                return;
+            }
+        }
+
+        if (limit.perEmail() != null) {
+            ReplayableRequest replayable = ReplayableRequest.wrap(request);
+            String email = replayable.complete() ? emailOf(replayable.prefix()) : null;
+            if (email != null) {
+                long wait = limit.perEmail().tryConsume(email, now);
+                if (wait > 0) {
+                    reject(response, limit.name(), "email", wait);
+                    return;
+                }
+            }
+            request = replayable;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletResponse response, String endpoint, String key, long waitNanos)
+            throws IOException {
+        logger.debug("Rate limit exceeded on {} per {}", endpoint, key);
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        String traceIdValue = TraceIdContext.getTraceId();
+        byte[] traceId = traceIdValue == null ? null : traceIdValue.getBytes(StandardCharsets.US_ASCII);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTION_PREFIX.length + (traceId == null
+                ? REJECTION_SUFFIX.length
+                : TRACE_ID_FIELD.length + traceId.length + TRACE_ID_SUFFIX.length));
+
+        // Same shape as ApiResponse.error: trace IDs are validated alphanumerics, so no escaping is needed
+        ServletOutputStream out = response.getOutputStream();
+        out.write(REJECTION_PREFIX);
+        if (traceId == null) {
+            out.write(REJECTION_SUFFIX);
+        } else {
+            out.write(TRACE_ID_FIELD);
+            out.write(traceId);
+            out.write(TRACE_ID_SUFFIX);
+        }
+    }
+
+    /**
+     * Reads the top-level {@code email} field with a streaming parser, normalized to lower case.
+     *
+     * @return the email, or null if absent or the body is not a JSON object
+     */
+    private static String emailOf(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("email".equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText().trim().toLowerCase(Locale.ROOT) : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // Malformed JSON is rejected by the controller
+            return null;
+        }
+    }
+
+    private record EndpointLimit(String name, KeyedLimiter perIp, KeyedLimiter perEmail) {
+    }
+
+    /**
+     * Token buckets per key for one endpoint and key type.
+     * A bucket untouched for a full period has refilled, so expiring it loses nothing.
+     */
+    private static final class KeyedLimiter {
+
+        private final long capacity;
+        private final Duration period;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        private KeyedLimiter(String endpoint, String key, long capacity, Duration period, long maxKeys,
+                             MeterRegistry meterRegistry) {
+            this.capacity = capacity;
+            this.period = period;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(period)
+                    .build();
+            this.rejected = Counter.builder("rate_limit.rejected")
+                    .description("Requests rejected by the login and registration rate limits")
+                    .tag("endpoint", endpoint)
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * @return null when the capacity is 0, which turns this limit off
+         */
+        static KeyedLimiter of(String endpoint, String key, long capacity, Duration period, long maxKeys,
+                               MeterRegistry meterRegistry) {
+            return capacity > 0 ? new KeyedLimiter(endpoint, key, capacity, period, maxKeys, meterRegistry) : null;
+        }
+
+        long tryConsume(String key, long nowNanos) {
+            TokenBucket bucket = buckets.getIfPresent(key);
+            if (bucket == null) {
+                bucket = buckets.get(key, k -> new TokenBucket(capacity, period, nowNanos));
+            }
+            long wait = bucket.tryConsume(nowNanos);
+            if (wait > 0) {
+                rejected.increment();
+            }
+            return wait;
+        }
+    }
+
+    /**
+     * Request whose body was partly read to find the email and is replayed to the controller.
+     */
+    private static final class ReplayableRequest extends HttpServletRequestWrapper {
+
+        private final byte[] prefix;
+        private final boolean complete;
+        private final InputStream body;
+
+        private ReplayableRequest(HttpServletRequest request, byte[] prefix, boolean complete) throws IOException {
+            super(request);
+            this.prefix = prefix;
+            this.complete = complete;
+            InputStream replay = new ByteArrayInputStream(prefix);
+            this.body = complete ? replay : new SequenceInputStream(replay, request.getInputStream());
+        }
+
+        static ReplayableRequest wrap(HttpServletRequest request) throws IOException {
+            byte[] prefix = request.getInputStream().readNBytes(MAX_SCANNED_BODY + 1);
+            return new ReplayableRequest(request, prefix, prefix.length <= MAX_SCANNED_BODY);
+        }
+
+        byte[] prefix() {
+            return prefix;
+        }
+
+        boolean complete() {
+            return complete;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = body.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = body.read(buffer, offset, length);
+                    finished = n < 0;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    Objects.requireNonNull(readListener, "readListener");
+                    // The body is always ready, so the listener reads all of it in one callback
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (Throwable e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the size of the refresh token table as {@code refresh_tokens.stored} (all rows) and
+ * {@code refresh_tokens.active} (not revoked, not expired).
+ * The counts are refreshed on a schedule ({@code jwt.metrics.refresh-interval}) rather than on
+ * scrape, so a scrape never runs a query against the table.
+ */
+@Component
+public class RefreshTokenMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenMetrics.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong active = new AtomicLong();
+
+    public RefreshTokenMetrics(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        Gauge.builder("refresh_tokens.stored", stored, AtomicLong::get)
+                .description("Refresh token rows, including expired and revoked ones not yet purged")
+                .register(meterRegistry);
+        Gauge.builder("refresh_tokens.active", active, AtomicLong::get)
+                .description("Refresh tokens that are neither revoked nor expired")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${symbol_dollar}{jwt.metrics.refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            stored.set(refreshTokenRepository.count());
+            active.set(refreshTokenRepository.countActive(Instant.now()));
+        } catch (RuntimeException e) {
+            // Keep the last known values; a failed count must not break the scheduler
+            logger.warn("Could not count refresh tokens: {}", e.getMessage());
+        }
+    }
+}
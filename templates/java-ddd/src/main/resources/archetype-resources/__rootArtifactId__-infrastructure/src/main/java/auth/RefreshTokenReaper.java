@@ -0,0 +1,105 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically deletes expired and revoked refresh tokens.
+ * Rows are selected in keyset-paged batches by ID and each batch is deleted in its own short
+ * transaction, with a pause between batches and a cap per run, so the purge never holds long locks.
+ * Revoked tokens are kept for {@code jwt.reaper.revoked-retention} after their revocation, so reuse is
+ * still reported as revoked.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jwt.reaper", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenReaper {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenReaper.class);
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatches;
+    private final Duration revokedRetention;
+    private final Counter purged;
+    private final Timer purgeTimer;
+
+    public RefreshTokenReaper(
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${symbol_dollar}{jwt.reaper.batch-size:500}") int batchSize,
+            @Value("${symbol_dollar}{jwt.reaper.batch-pause:50ms}") Duration batchPause,
+            @Value("${symbol_dollar}{jwt.reaper.max-batches:200}") int maxBatches,
+            @Value("${symbol_dollar}{jwt.reaper.revoked-retention:1h}") Duration revokedRetention) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatches = maxBatches;
+        this.revokedRetention = revokedRetention;
+        this.purged = Counter.builder("refresh_tokens.purged")
+                .description("Expired or revoked refresh tokens deleted by the reaper")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("refresh_tokens.purge")
+                .description("Time spent per reaper run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${symbol_dollar}{jwt.reaper.interval:PT10M}",
+            initialDelayString = "${symbol_dollar}{jwt.reaper.interval:PT10M}")
+    public void purge() {
+        purgeTimer.record(this::purgeBatches);
+    }
+
+    private void purgeBatches() {
+        Instant now = Instant.now();
+        Instant revokedBefore = now.minus(revokedRetention);
+        UUID cursor = MIN_ID;
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<UUID> ids = refreshTokenRepository.findPurgeableIds(now, revokedBefore, cursor, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            int deleted = refreshTokenRepository.deleteAllByIdIn(ids);
+            purged.increment(deleted);
+            total += deleted;
+            cursor = ids.get(ids.size() - 1);
+
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            logger.info("Purged {} expired or revoked refresh tokens", total);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding {@code capacity} tokens that refill evenly over {@code period}.
+ * The whole state is one timestamp: the instant the bucket is full again. Taking a token pushes it
+ * forward by one refill interval with a compare-and-set, so concurrent callers never block.
+ * A bucket that has not been touched for {@code period} is full and can be dropped.
+ */
+public final class TokenBucket {
+
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity the maximum number of tokens, at least 1
+     * @param period   the time to refill an empty bucket
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    public TokenBucket(long capacity, Duration period, long nowNanos) {
+        this.refillNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = refillNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            // nanoTime values are compared by difference, as they may overflow
+            long next = (current - nowNanos > 0 ? current : nowNanos) + refillNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
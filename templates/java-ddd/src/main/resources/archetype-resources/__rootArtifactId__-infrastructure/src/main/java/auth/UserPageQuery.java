@@ -0,0 +1,14 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import java.util.List;
+
+/**
+ * Spring Data fragment for keyset-paged user listing, implemented in {@link UserPageQueryImpl}.
+ */
+public interface UserPageQuery {
+
+    List<User> findPage(UserPageRequest request);
+}
@@ -0,0 +1,60 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keyset pagination over users ordered by (created_at, id), backed by idx_users_created_at_id.
+ * Only the filters that are set end up in the query. Roles are loaded in batches
+ * ({@code hibernate.default_batch_fetch_size}) rather than joined, so the row limit stays in SQL.
+ */
+class UserPageQueryImpl implements UserPageQuery {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findPage(UserPageRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> user = query.from(User.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (request.enabled() != null) {
+            predicates.add(cb.equal(user.get("enabled"), request.enabled()));
+        }
+        if (request.role() != null) {
+            predicates.add(cb.isMember(request.role(), user.<Set<Role>>get("roles")));
+        }
+        if (!request.isFirstPage()) {
+            var createdAt = user.<Instant>get("createdAt");
+            predicates.add(cb.or(
+                    cb.greaterThan(createdAt, request.afterCreatedAt()),
+                    cb.and(cb.equal(createdAt, request.afterCreatedAt()),
+                            cb.greaterThan(user.<UUID>get("id"), request.afterId()))));
+        }
+
+        query.select(user)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(user.get("createdAt")), cb.asc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(request.limit())
+                .getResultList();
+    }
+}
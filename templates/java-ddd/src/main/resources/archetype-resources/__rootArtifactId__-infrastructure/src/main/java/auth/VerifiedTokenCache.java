@@ -0,0 +1,94 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded in-process cache of verified access tokens.
+ * Entries are keyed by the token's signature segment and live until the token's {@code exp},
+ * so repeated requests with the same token skip signature verification and claim parsing.
+ * Enabled with {@code jwt.cache.enabled=true}.
+ * Metrics are published under the {@code verified-tokens} cache name.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jwt.cache", name = "enabled", havingValue = "true")
+public class VerifiedTokenCache {
+
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${symbol_dollar}{jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified-tokens");
+    }
+
+    /**
+     * Look up the verified claims of a token.
+     *
+     * @param token the compact JWT
+     * @return the cached claims, or null if the token has not been verified or has expired
+     */
+    public VerifiedClaims get(String token) {
+        Entry entry = cache.getIfPresent(signatureOf(token));
+        // The full token is compared so a forged header or payload never reuses a cached signature
+        if (entry != null && entry.token().equals(token) && entry.claims().expiresAt().isAfter(Instant.now())) {
+            return entry.claims();
+        }
+        return null;
+    }
+
+    /**
+     * Remember the claims of a token whose signature has just been verified.
+     *
+     * @param token  the compact JWT
+     * @param claims the verified claims
+     */
+    public void put(String token, VerifiedClaims claims) {
+        cache.put(signatureOf(token), new Entry(token, claims));
+    }
+
+    private static String signatureOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    private record Entry(String token, VerifiedClaims claims) {
+    }
+
+    /**
+     * Expires each entry at its token's expiration time.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.claims().expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
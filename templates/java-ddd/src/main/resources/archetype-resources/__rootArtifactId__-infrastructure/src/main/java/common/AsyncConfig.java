@@ -0,0 +1,53 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.Map;
+
+/**
+ * Enables {@code @Async} methods.
+ * They run on Spring Boot's {@code applicationTaskExecutor}, which uses virtual threads
+ * when {@code spring.threads.virtual.enabled} is set on Java 21.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Carries the caller's MDC (trace ID) and current span into tasks run by the application task executor,
+     * which covers {@code @Async} methods and async MVC responses on platform and virtual threads alike.
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return task -> {
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            Tracing.Context tracingContext = Tracing.currentContext();
+            return () -> {
+                Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+                Tracing.Context previousTracingContext = Tracing.attach(tracingContext);
+                setMdc(mdc);
+                try {
+                    task.run();
+                } finally {
+                    setMdc(previousMdc);
+                    Tracing.attach(previousTracingContext);
+                }
+            };
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
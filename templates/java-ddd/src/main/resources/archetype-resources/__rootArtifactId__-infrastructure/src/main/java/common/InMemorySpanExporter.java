@@ -0,0 +1,41 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the most recent request traces in memory, for the {@code traces} actuator endpoint.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final Deque<RequestTrace> traces = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemorySpanExporter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void export(RequestTrace trace) {
+        traces.addLast(trace);
+        if (size.incrementAndGet() > capacity && traces.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the retained traces, oldest first.
+     *
+     * @return the traces
+     */
+    public List<RequestTrace> getTraces() {
+        return new ArrayList<>(traces);
+    }
+}
@@ -0,0 +1,129 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends each request trace to a file as one OTLP/JSON {@code ExportTraceServiceRequest} per line,
+ * the format of the OpenTelemetry Collector file exporter, so traces can be inspected or replayed
+ * into a collector later.
+ * Writing happens on a single background thread; when it falls behind, new traces are dropped.
+ */
+public class OtlpFileSpanExporter implements SpanExporter, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OtlpFileSpanExporter.class);
+
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+    private final List<Map<String, Object>> resourceAttributes;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public OtlpFileSpanExporter(Path path, String serviceName, ObjectMapper objectMapper) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open trace file " + path, e);
+        }
+        this.objectMapper = objectMapper;
+        this.resourceAttributes = List.of(attribute("service.name", serviceName));
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "otlp-file-exporter");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> dropped.incrementAndGet());
+        logger.info("Exporting traces to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public void export(RequestTrace trace) {
+        executor.execute(() -> write(trace));
+    }
+
+    private void write(RequestTrace trace) {
+        try {
+            writer.write(objectMapper.writeValueAsString(toOtlp(trace)));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            logger.warn("Failed to write trace {}: {}", trace.getTraceId(), e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toOtlp(RequestTrace trace) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (RequestTrace.SpanData span : trace.getSpans()) {
+            Map<String, Object> otlpSpan = new LinkedHashMap<>();
+            otlpSpan.put("traceId", trace.getTraceId());
+            otlpSpan.put("spanId", span.spanId());
+            if (span.parentSpanId() != null) {
+                otlpSpan.put("parentSpanId", span.parentSpanId());
+            }
+            if (span.kind() == Tracing.Kind.SERVER && trace.getTraceState() != null) {
+                otlpSpan.put("traceState", trace.getTraceState());
+            }
+            otlpSpan.put("name", span.name());
+            otlpSpan.put("kind", span.kind().getOtlpValue());
+            // 64-bit integers are strings in OTLP/JSON
+            otlpSpan.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+            otlpSpan.put("endTimeUnixNano", Long.toString(span.startEpochNanos() + span.durationNanos()));
+            List<Map<String, Object>> attributes = new ArrayList<>();
+            span.attributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+            otlpSpan.put("attributes", attributes);
+            spans.add(otlpSpan);
+        }
+        return Map.of("resourceSpans", List.of(Map.of(
+                "resource", Map.of("attributes", resourceAttributes),
+                "scopeSpans", List.of(Map.of(
+                        "scope", Map.of("name", Tracing.class.getName()),
+                        "spans", spans)))));
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        return Map.of("key", key, "value", Map.of("stringValue", value));
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+        if (dropped.get() > 0) {
+            logger.warn("Dropped {} traces because the trace file writer fell behind", dropped.get());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spans recorded while serving one request.
+ * Spans may be added from several threads (e.g. {@code @Async} work), so the list is concurrent.
+ */
+public final class RequestTrace {
+
+    private final String traceId;
+    private final String remoteParentId;
+    private final String traceState;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Queue<SpanData> spans = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Starts a trace.
+     *
+     * @param traceId        the trace ID
+     * @param remoteParentId the caller's span ID from {@code traceparent}, or null
+     * @param traceState     the caller's {@code tracestate}, or null
+     */
+    public RequestTrace(String traceId, String remoteParentId, String traceState) {
+        this.traceId = traceId;
+        this.remoteParentId = remoteParentId;
+        this.traceState = traceState;
+        this.startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        this.startNanoTime = System.nanoTime();
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getRemoteParentId() {
+        return remoteParentId;
+    }
+
+    public String getTraceState() {
+        return traceState;
+    }
+
+    /**
+     * Converts a {@link System#nanoTime()} reading taken during this trace to epoch nanoseconds.
+     */
+    long toEpochNanos(long nanoTime) {
+        return startEpochNanos + (nanoTime - startNanoTime);
+    }
+
+    void add(SpanData span) {
+        spans.add(span);
+    }
+
+    /**
+     * Gets the finished spans in start order.
+     *
+     * @return the spans
+     */
+    public List<SpanData> getSpans() {
+        List<SpanData> sorted = new ArrayList<>(spans);
+        sorted.sort(Comparator.comparingLong(SpanData::startEpochNanos));
+        return sorted;
+    }
+
+    /**
+     * Gets the server span, which covers the whole request.
+     *
+     * @return the server span, or null while the request is still running
+     */
+    public SpanData getServerSpan() {
+        for (SpanData span : spans) {
+            if (span.kind() == Tracing.Kind.SERVER) {
+                return span;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A finished span.
+     *
+     * @param spanId          the span ID
+     * @param parentSpanId    the parent span ID, or null for a root span
+     * @param name            the span name
+     * @param kind            the span kind
+     * @param startEpochNanos the start time in nanoseconds since the epoch
+     * @param durationNanos   the duration in nanoseconds
+     * @param attributes      additional attributes
+     */
+    public record SpanData(String spanId, String parentSpanId, String name, Tracing.Kind kind,
+                           long startEpochNanos, long durationNanos, Map<String, String> attributes) {
+    }
+}
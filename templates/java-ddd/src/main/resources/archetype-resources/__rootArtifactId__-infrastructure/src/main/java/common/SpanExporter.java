@@ -0,0 +1,18 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+/**
+ * Receives each request's spans once the request has completed.
+ * Called on the request thread, so implementations must not block.
+ */
+public interface SpanExporter {
+
+    /**
+     * Exports a finished request trace.
+     *
+     * @param trace the trace
+     */
+    void export(RequestTrace trace);
+}
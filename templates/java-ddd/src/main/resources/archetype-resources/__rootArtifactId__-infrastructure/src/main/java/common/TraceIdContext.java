@@ -5,6 +5,8 @@ package ${package}.common;
 
 import org.slf4j.MDC;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Utility class for managing trace ID in the current request context.
  * Uses SLF4J MDC for thread-local storage and log correlation.
@@ -12,12 +14,57 @@ import org.slf4j.MDC;
 public final class TraceIdContext {
 
     public static final String TRACE_ID_KEY = "traceId";
+    public static final String SPAN_ID_KEY = "spanId";
     public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACESTATE_HEADER = "tracestate";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     private TraceIdContext() {
         // Utility class
     }
 
+    /**
+     * Generates a new random trace ID: 32 lowercase hex characters (128 bits), the W3C trace-id format.
+     * Uses {@link ThreadLocalRandom}, so it never contends like {@code UUID.randomUUID()}; trace IDs
+     * only need to be unique, not unpredictable.
+     *
+     * @return the new trace ID
+     */
+    public static String generateTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        if (high == 0 && low == 0) {
+            // All zeros is the W3C "invalid" trace-id
+            low = 1;
+        }
+        char[] chars = new char[32];
+        encodeHex(high, chars, 0);
+        encodeHex(low, chars, 16);
+        return new String(chars);
+    }
+
+    /**
+     * Generates a new random span ID: 16 lowercase hex characters (64 bits), the W3C parent-id format.
+     *
+     * @return the new span ID
+     */
+    public static String generateSpanId() {
+        long id = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[16];
+        encodeHex(id == 0 ? 1 : id, chars, 0);
+        return new String(chars);
+    }
+
+    private static void encodeHex(long value, char[] chars, int offset) {
+        for (int i = offset + 15; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
     /**
      * Sets the trace ID for the current request.
      */
@@ -25,6 +72,13 @@ public final class TraceIdContext {
         MDC.put(TRACE_ID_KEY, traceId);
     }
 
+    /**
+     * Sets the ID of the current request's server span.
+     */
+    public static void setSpanId(String spanId) {
+        MDC.put(SPAN_ID_KEY, spanId);
+    }
+
     /**
      * Gets the trace ID for the current request.
      */
@@ -37,5 +91,6 @@ public final class TraceIdContext {
      */
     public static void clear() {
         MDC.remove(TRACE_ID_KEY);
+        MDC.remove(SPAN_ID_KEY);
     }
 }
@@ -0,0 +1,76 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+/**
+ * W3C Trace Context {@code traceparent} header value: {@code 00-<trace-id>-<parent-id>-<flags>}.
+ *
+ * @param traceId  32 lowercase hex characters
+ * @param parentId 16 lowercase hex characters, the span ID of the caller
+ * @param flags    2 lowercase hex characters; bit 0 is "sampled"
+ */
+public record TraceParent(String traceId, String parentId, String flags) {
+
+    private static final String VERSION = "00";
+    private static final int LENGTH = 55;
+
+    /**
+     * Parses a {@code traceparent} header.
+     *
+     * @param header the header value, may be null
+     * @return the parsed value, or null if the header is missing or malformed
+     */
+    public static TraceParent parse(String header) {
+        if (header == null || header.length() != LENGTH
+                || header.charAt(2) != '-' || header.charAt(35) != '-' || header.charAt(52) != '-'
+                || !header.startsWith(VERSION)) {
+            return null;
+        }
+        String traceId = header.substring(3, 35);
+        String parentId = header.substring(36, 52);
+        String flags = header.substring(53);
+        if (!isValidTraceId(traceId) || !isHex(parentId) || isAllZeros(parentId) || !isHex(flags)) {
+            return null;
+        }
+        return new TraceParent(traceId, parentId, flags);
+    }
+
+    /**
+     * Checks whether a trace ID has the W3C format: 32 lowercase hex characters, not all zeros.
+     *
+     * @param traceId the trace ID
+     * @return true if the trace ID can be sent in a {@code traceparent} header
+     */
+    public static boolean isValidTraceId(String traceId) {
+        return traceId != null && traceId.length() == 32 && isHex(traceId) && !isAllZeros(traceId);
+    }
+
+    /**
+     * Formats this value as a {@code traceparent} header.
+     *
+     * @return the header value
+     */
+    public String format() {
+        return VERSION + "-" + traceId + "-" + parentId + "-" + flags;
+    }
+
+    private static boolean isHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllZeros(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
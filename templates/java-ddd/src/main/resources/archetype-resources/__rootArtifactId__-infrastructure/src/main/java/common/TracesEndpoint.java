@@ -0,0 +1,71 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Actuator endpoint {@code /actuator/traces}: the slowest recent requests with their spans,
+ * so the stage that dominates a slow request can be found without an external collector.
+ */
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private static final int MAX_TRACES = 20;
+
+    private final InMemorySpanExporter exporter;
+
+    public TracesEndpoint(InMemorySpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<TraceSummary> slowestTraces() {
+        return exporter.getTraces().stream()
+                .map(TracesEndpoint::summarize)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingDouble(TraceSummary::durationMs).reversed())
+                .limit(MAX_TRACES)
+                .toList();
+    }
+
+    private static TraceSummary summarize(RequestTrace trace) {
+        RequestTrace.SpanData server = trace.getServerSpan();
+        if (server == null) {
+            return null;
+        }
+        List<SpanSummary> spans = trace.getSpans().stream()
+                .map(span -> new SpanSummary(span.name(), millis(span.durationNanos()),
+                        millis(span.startEpochNanos() - server.startEpochNanos()), span.attributes()))
+                .toList();
+        return new TraceSummary(trace.getTraceId(), server.name(),
+                Instant.EPOCH.plus(server.startEpochNanos(), ChronoUnit.NANOS),
+                millis(server.durationNanos()), spans);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * A request and its spans.
+     */
+    public record TraceSummary(String traceId, String name, Instant start, double durationMs,
+                               List<SpanSummary> spans) {
+    }
+
+    /**
+     * A span, with its start relative to the start of the request.
+     */
+    public record SpanSummary(String name, double durationMs, double offsetMs, Map<String, String> attributes) {
+    }
+}
@@ -0,0 +1,179 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Minimal in-process span recording.
+ * The current trace and span are bound to the thread; {@link #startSpan} creates a child of the current
+ * span and makes it current until it is closed. Without a current trace (tracing disabled, background
+ * threads) spans are no-ops, so instrumented code pays one thread-local lookup.
+ * Use {@link #currentContext()} and {@link #attach(Context)} to carry the trace to other threads.
+ */
+public final class Tracing {
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {
+        // Utility class
+    }
+
+    /**
+     * Starts the server span of a request and makes the trace current.
+     *
+     * @param trace  the request trace
+     * @param spanId the server span ID
+     * @param name   the span name
+     * @return the server span, to be closed when the request completes
+     */
+    public static Span startServerSpan(RequestTrace trace, String spanId, String name) {
+        Context previous = CURRENT.get();
+        Span span = new Span(trace, spanId, trace.getRemoteParentId(), name, Kind.SERVER, previous);
+        CURRENT.set(new Context(trace, spanId));
+        return span;
+    }
+
+    /**
+     * Starts an internal span as a child of the current span.
+     *
+     * @param name the span name
+     * @return the span, to be closed when the work completes
+     */
+    public static Span startSpan(String name) {
+        return startSpan(name, Kind.INTERNAL);
+    }
+
+    /**
+     * Starts a span as a child of the current span.
+     *
+     * @param name the span name
+     * @param kind the span kind
+     * @return the span, or a no-op span if no trace is current
+     */
+    public static Span startSpan(String name, Kind kind) {
+        Context current = CURRENT.get();
+        if (current == null) {
+            return Span.NOOP;
+        }
+        String spanId = TraceIdContext.generateSpanId();
+        Span span = new Span(current.trace(), spanId, current.spanId(), name, kind, current);
+        CURRENT.set(new Context(current.trace(), spanId));
+        return span;
+    }
+
+    /**
+     * Gets the trace and span current on this thread.
+     *
+     * @return the current context, or null
+     */
+    public static Context currentContext() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes a context current on this thread.
+     *
+     * @param context the context to attach, may be null
+     * @return the previously current context, to be passed back to {@code attach} afterwards
+     */
+    public static Context attach(Context context) {
+        Context previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    /**
+     * Span kind, with its OTLP numeric value.
+     */
+    public enum Kind {
+        INTERNAL(1),
+        SERVER(2),
+        CLIENT(3);
+
+        private final int otlpValue;
+
+        Kind(int otlpValue) {
+            this.otlpValue = otlpValue;
+        }
+
+        public int getOtlpValue() {
+            return otlpValue;
+        }
+    }
+
+    /**
+     * A trace and the span that new spans are children of.
+     */
+    public record Context(RequestTrace trace, String spanId) {
+    }
+
+    /**
+     * A span in progress. Closing it records it in its trace and restores the previous current span.
+     */
+    public static final class Span implements AutoCloseable {
+
+        static final Span NOOP = new Span(null, null, null, null, null, null);
+
+        private final RequestTrace trace;
+        private final String spanId;
+        private final String parentSpanId;
+        private final String name;
+        private final Kind kind;
+        private final Context previous;
+        private final long startNanoTime;
+        private Map<String, String> attributes;
+        private boolean closed;
+
+        private Span(RequestTrace trace, String spanId, String parentSpanId, String name, Kind kind,
+                     Context previous) {
+            this.trace = trace;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.name = name;
+            this.kind = kind;
+            this.previous = previous;
+            this.startNanoTime = trace == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Adds an attribute to this span.
+         *
+         * @param key   the attribute key
+         * @param value the attribute value
+         * @return this span
+         */
+        public Span setAttribute(String key, String value) {
+            if (trace != null) {
+                if (attributes == null) {
+                    attributes = new LinkedHashMap<>();
+                }
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (trace == null || closed) {
+                return;
+            }
+            closed = true;
+            long duration = System.nanoTime() - startNanoTime;
+            trace.add(new RequestTrace.SpanData(spanId, parentSpanId, name, kind,
+                    trace.toEpochNanos(startNanoTime), duration,
+                    attributes == null ? Map.of() : attributes));
+            // Only restore if this span is still current here; spans may be closed on another thread
+            Context current = CURRENT.get();
+            if (current != null && current.trace() == trace && spanId.equals(current.spanId())) {
+                attach(previous);
+            }
+        }
+    }
+}
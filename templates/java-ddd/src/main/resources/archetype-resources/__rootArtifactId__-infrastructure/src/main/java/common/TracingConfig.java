@@ -0,0 +1,70 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+
+/**
+ * Request tracing: spans for the filter chain (server span, see {@code TraceIdFilter}), controller methods,
+ * JDBC statements and password hashing, exported in memory ({@code /actuator/traces}) or to an OTLP/JSON file.
+ * Off unless {@code tracing.enabled=true}; {@code tracing.exporter} is {@code memory} or {@code otlp-file}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tracing", name = "enabled", havingValue = "true")
+public class TracingConfig implements WebMvcConfigurer {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing", name = "exporter", havingValue = "memory", matchIfMissing = true)
+    public InMemorySpanExporter inMemorySpanExporter(
+            @Value("${symbol_dollar}{tracing.memory.capacity:500}") int capacity) {
+        return new InMemorySpanExporter(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing", name = "exporter", havingValue = "memory", matchIfMissing = true)
+    public TracesEndpoint tracesEndpoint(InMemorySpanExporter exporter) {
+        return new TracesEndpoint(exporter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing", name = "exporter", havingValue = "otlp-file")
+    public OtlpFileSpanExporter otlpFileSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${symbol_dollar}{tracing.otlp-file.path:logs/traces.jsonl}") Path path,
+            @Value("${symbol_dollar}{spring.application.name:application}") String serviceName) {
+        return new OtlpFileSpanExporter(path, serviceName, objectMapper);
+    }
+
+    /**
+     * Wraps the DataSource so JDBC statements are recorded as spans.
+     */
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+                    return TracingDataSource.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TracingHandlerInterceptor());
+    }
+}
@@ -0,0 +1,89 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Wraps a {@link DataSource} so every statement execution is recorded as a {@code jdbc} client span.
+ * Connections and statements are JDK proxies that delegate everything, including {@code unwrap},
+ * to the pooled objects; time spent waiting for a pooled connection is recorded as {@code jdbc.connect}.
+ */
+final class TracingDataSource {
+
+    private static final int MAX_STATEMENT_LENGTH = 500;
+
+    private TracingDataSource() {
+        // Utility class
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                try (Tracing.Span span = Tracing.startSpan("jdbc.connect", Tracing.Kind.CLIENT)) {
+                    return proxy(Connection.class, invoke(target, method, args), TracingDataSource::onConnection);
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Object onConnection(Object connection, Method method, Object[] args) throws Throwable {
+        Object result = invoke(connection, method, args);
+        if (result instanceof Statement statement) {
+            // prepareStatement/prepareCall pass the SQL up front; createStatement passes it on execute
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            @SuppressWarnings("unchecked")
+            Class<Statement> type = (Class<Statement>) method.getReturnType();
+            return proxy(type, statement, (target, statementMethod, statementArgs) ->
+                    onStatement(target, statementMethod, statementArgs, sql));
+        }
+        return result;
+    }
+
+    private static Object onStatement(Object statement, Method method, Object[] args, String preparedSql)
+            throws Throwable {
+        if (!method.getName().startsWith("execute")) {
+            return invoke(statement, method, args);
+        }
+        String sql = preparedSql != null ? preparedSql
+                : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+        try (Tracing.Span span = Tracing.startSpan("jdbc." + method.getName(), Tracing.Kind.CLIENT)) {
+            if (sql != null) {
+                span.setAttribute("db.statement",
+                        sql.length() > MAX_STATEMENT_LENGTH ? sql.substring(0, MAX_STATEMENT_LENGTH) : sql);
+            }
+            return invoke(statement, method, args);
+        }
+    }
+
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Tracing" + type.getSimpleName() + "[" + target + "]";
+            default -> handler.handle(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
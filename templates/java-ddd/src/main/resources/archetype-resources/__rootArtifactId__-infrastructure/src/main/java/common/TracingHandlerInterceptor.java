@@ -0,0 +1,47 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Records a span around each controller method, from handler selection until the response is written.
+ */
+class TracingHandlerInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SPAN_ATTRIBUTE = TracingHandlerInterceptor.class.getName() + ".span";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Tracing.Span span = Tracing.startSpan(
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            request.setAttribute(SPAN_ATTRIBUTE, span);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        closeSpan(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // Streaming responses finish on another thread; the span covers the synchronous part
+        closeSpan(request);
+    }
+
+    private static void closeSpan(HttpServletRequest request) {
+        if (request.getAttribute(SPAN_ATTRIBUTE) instanceof Tracing.Span span) {
+            request.removeAttribute(SPAN_ATTRIBUTE);
+            span.close();
+        }
+    }
+}
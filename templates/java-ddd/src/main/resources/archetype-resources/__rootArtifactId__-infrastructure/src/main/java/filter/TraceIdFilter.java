@@ -3,24 +3,29 @@
 #set( $symbol_escape = '\' )
 package ${package}.filter;
 
+import ${package}.common.RequestTrace;
+import ${package}.common.SpanExporter;
 import ${package}.common.TraceIdContext;
+import ${package}.common.TraceParent;
+import ${package}.common.Tracing;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
  * Filter that generates or propagates trace ID for each request.
+ * Accepts a W3C {@code traceparent} header, falling back to {@code X-Trace-Id}, and returns both.
  * Trace ID is stored in MDC for logging and returned in response header.
+ * When tracing is enabled the whole filter chain is recorded as the request's server span
+ * and the finished trace is handed to the {@link SpanExporter}.
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -29,29 +34,64 @@ public class TraceIdFilter extends OncePerRequestFilter {
     /** Maximum allowed length for trace ID to prevent DoS attacks */
     private static final int MAX_TRACE_ID_LENGTH = 64;
 
-    /** Pattern for valid trace ID characters (alphanumeric and hyphens only) */
-    private static final Pattern VALID_TRACE_ID_PATTERN = Pattern.compile("^[a-zA-Z0-9-]+${symbol_dollar}");
+    /** Maximum allowed length for a propagated tracestate header, per the W3C recommendation */
+    private static final int MAX_TRACE_STATE_LENGTH = 512;
+
+    private static final String SAMPLED = "01";
+
+    private final SpanExporter spanExporter;
+
+    public TraceIdFilter(ObjectProvider<SpanExporter> spanExporter) {
+        this.spanExporter = spanExporter.getIfAvailable();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            // Get trace ID from header or generate new one
-            String traceId = request.getHeader(TraceIdContext.TRACE_ID_HEADER);
+            TraceParent parent = TraceParent.parse(request.getHeader(TraceIdContext.TRACEPARENT_HEADER));
+            String traceState = parent != null
+                    ? validTraceState(request.getHeader(TraceIdContext.TRACESTATE_HEADER))
+                    : null;
+
+            // Get trace ID from traceparent, then X-Trace-Id, or generate new one
+            String traceId = parent != null ? parent.traceId() : request.getHeader(TraceIdContext.TRACE_ID_HEADER);
 
             // Validate trace ID to prevent log injection attacks
             if (!isValidTraceId(traceId)) {
-                traceId = UUID.randomUUID().toString().replace("-", "");
+                traceId = TraceIdContext.generateTraceId();
             }
+            String spanId = TraceIdContext.generateSpanId();
 
             // Set in MDC for logging
             TraceIdContext.setTraceId(traceId);
+            TraceIdContext.setSpanId(spanId);
 
-            // Add to response header
+            // Add to response header; traceparent only carries W3C-formatted trace IDs
             response.setHeader(TraceIdContext.TRACE_ID_HEADER, traceId);
+            if (TraceParent.isValidTraceId(traceId)) {
+                String flags = parent != null ? parent.flags() : SAMPLED;
+                response.setHeader(TraceIdContext.TRACEPARENT_HEADER,
+                        new TraceParent(traceId, spanId, flags).format());
+                if (traceState != null) {
+                    response.setHeader(TraceIdContext.TRACESTATE_HEADER, traceState);
+                }
+            }
 
-            filterChain.doFilter(request, response);
+            if (spanExporter == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            RequestTrace trace = new RequestTrace(traceId, parent != null ? parent.parentId() : null, traceState);
+            Tracing.Context previous = Tracing.currentContext();
+            try (Tracing.Span span = Tracing.startServerSpan(trace, spanId,
+                    request.getMethod() + " " + request.getRequestURI())) {
+                filterChain.doFilter(request, response);
+            } finally {
+                Tracing.attach(previous);
+                spanExporter.export(trace);
+            }
         } finally {
             // Clean up MDC
             TraceIdContext.clear();
@@ -60,17 +100,38 @@ public class TraceIdFilter extends OncePerRequestFilter {
 
     /**
      * Validates the trace ID to prevent log injection and DoS attacks.
+     * Only ASCII letters, digits and hyphens are allowed; checked in a single pass without allocating.
      *
      * @param traceId the trace ID to validate
      * @return true if valid, false otherwise
      */
-    private boolean isValidTraceId(String traceId) {
-        if (!StringUtils.hasText(traceId)) {
+    static boolean isValidTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_TRACE_ID_LENGTH) {
             return false;
         }
-        if (traceId.length() > MAX_TRACE_ID_LENGTH) {
-            return false;
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the tracestate header if it is safe to echo: bounded length and printable ASCII only.
+     */
+    private static String validTraceState(String traceState) {
+        if (traceState == null || traceState.isEmpty() || traceState.length() > MAX_TRACE_STATE_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < traceState.length(); i++) {
+            char c = traceState.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                return null;
+            }
         }
-        return VALID_TRACE_ID_PATTERN.matcher(traceId).matches();
+        return traceState;
     }
 }
@@ -3,13 +3,22 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import ${package}.common.DomainException;
+import ${package}.common.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,28 +34,87 @@ public class AdminController {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int MAX_BULK_IDS = 10_000;
+
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final UserAdministrationService userAdministrationService;
+    private final ObjectMapper objectMapper;
 
-    public AdminController(UserRepository userRepository, TokenService tokenService) {
+    public AdminController(UserRepository userRepository, TokenService tokenService,
+                           UserAdministrationService userAdministrationService, ObjectMapper objectMapper) {
         this.userRepository = userRepository;
         this.tokenService = tokenService;
+        this.userAdministrationService = userAdministrationService;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Lists all users (admin only).
+     * Lists users one page at a time, ordered by creation time (admin only).
      *
-     * @return list of all users
+     * @param enabled only users with this status (optional)
+     * @param role    only users with this role (optional)
+     * @param cursor  the nextCursor of the previous page (optional)
+     * @param limit   the page size, at most 500
+     * @return a page of users and the cursor of the next page, null on the last page
      */
     @GetMapping
-    public ResponseEntity<List<AdminUserResponse>> listUsers() {
-        logger.info("Admin listing all users");
-
-        List<AdminUserResponse> users = userRepository.findAll().stream()
+    public ResponseEntity<AdminUserPage> listUsers(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        logger.info("Admin listing users");
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        UserPageRequest request = decodeCursor(cursor,
+                new UserPageRequest(enabled, parseRole(role), null, null, pageSize));
+        List<User> users = userRepository.findPage(request);
+
+        List<AdminUserResponse> items = users.stream()
                 .map(AdminUserResponse::from)
                 .collect(Collectors.toList());
+        String nextCursor = users.size() < pageSize ? null : encodeCursor(users.get(users.size() - 1));
 
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(new AdminUserPage(items, nextCursor));
+    }
+
+    /**
+     * Exports all matching users as newline-delimited JSON (admin only).
+     * Rows are read page by page and written as they arrive, so memory use does not depend on the user count.
+     *
+     * @param enabled only users with this status (optional)
+     * @param role    only users with this role (optional)
+     * @return the streaming NDJSON response
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String role) {
+        logger.info("Admin exporting users");
+
+        UserPageRequest firstPage = new UserPageRequest(enabled, parseRole(role), null, null, EXPORT_BATCH_SIZE);
+        StreamingResponseBody body = out -> {
+            UserPageRequest request = firstPage;
+            List<User> users;
+            do {
+                users = userRepository.findPage(request);
+                for (User user : users) {
+                    out.write(objectMapper.writeValueAsBytes(AdminUserResponse.from(user)));
+                    out.write('\n');
+                }
+                out.flush();
+                if (!users.isEmpty()) {
+                    request = request.after(users.get(users.size() - 1));
+                }
+            } while (users.size() == EXPORT_BATCH_SIZE);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -119,6 +187,55 @@ public class AdminController {
         return ResponseEntity.ok(AdminUserResponse.from(savedUser));
     }
 
+    /**
+     * Enables many users at once (admin only).
+     *
+     * @param request the user IDs, at most 10000
+     * @return the result for each ID
+     */
+    @PostMapping("/bulk/enable")
+    public ResponseEntity<BulkUpdateResponse> bulkEnableUsers(@RequestBody BulkUsersRequest request) {
+        logger.info("Admin bulk enabling {} users", sizeOf(request.ids()));
+
+        return ResponseEntity.ok(BulkUpdateResponse.from(
+                userAdministrationService.enableUsers(checkBulkIds(request.ids()))));
+    }
+
+    /**
+     * Disables many users at once and revokes their tokens (admin only).
+     *
+     * @param request the user IDs, at most 10000
+     * @return the result for each ID
+     */
+    @PostMapping("/bulk/disable")
+    public ResponseEntity<BulkUpdateResponse> bulkDisableUsers(@RequestBody BulkUsersRequest request) {
+        logger.info("Admin bulk disabling {} users", sizeOf(request.ids()));
+
+        return ResponseEntity.ok(BulkUpdateResponse.from(
+                userAdministrationService.disableUsers(checkBulkIds(request.ids()))));
+    }
+
+    /**
+     * Replaces the roles of many users at once and revokes their tokens (admin only).
+     *
+     * @param request the user IDs, at most 10000, and the new roles
+     * @return the result for each ID
+     */
+    @PutMapping("/bulk/roles")
+    public ResponseEntity<BulkUpdateResponse> bulkUpdateUserRoles(@RequestBody BulkRolesRequest request) {
+        logger.info("Admin bulk updating roles for {} users", sizeOf(request.ids()));
+
+        List<UUID> ids = checkBulkIds(request.ids());
+        if (request.roles() == null || request.roles().isEmpty()) {
+            throw new IllegalArgumentException("roles must not be empty");
+        }
+        Set<Role> newRoles = request.roles().stream()
+                .map(AdminController::requireRole)
+                .collect(Collectors.toSet());
+
+        return ResponseEntity.ok(BulkUpdateResponse.from(userAdministrationService.updateRoles(ids, newRoles)));
+    }
+
     /**
      * Deletes a user (admin only).
      *
@@ -140,6 +257,113 @@ public class AdminController {
         return ResponseEntity.ok(new DeleteUserResponse("User deleted successfully"));
     }
 
+    private static List<UUID> checkBulkIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_IDS + " ids per request");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        return ids;
+    }
+
+    private static int sizeOf(List<UUID> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Parses an optional role filter: blank means no filter.
+     */
+    private static Role parseRole(String role) {
+        if (role == null || role.isBlank()) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid role: " + role);
+        }
+    }
+
+    /**
+     * Parses a role to assign: null, blank and unknown names are rejected.
+     */
+    private static Role requireRole(String role) {
+        if (role == null || role.isBlank()) {
+            throw new IllegalArgumentException("roles must not contain null or blank names");
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid role: " + role);
+        }
+    }
+
+    /**
+     * Encodes the position after a user as an opaque cursor.
+     */
+    private static String encodeCursor(User last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UserPageRequest decodeCursor(String cursor, UserPageRequest firstPage) {
+        if (cursor == null || cursor.isBlank()) {
+            return firstPage;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf('|');
+            return new UserPageRequest(firstPage.enabled(), firstPage.role(),
+                    Instant.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1)),
+                    firstPage.limit());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Response DTO for a page of the admin user listing.
+     */
+    public record AdminUserPage(List<AdminUserResponse> items, String nextCursor) {
+    }
+
+    /**
+     * Request DTO for bulk enable and disable.
+     */
+    public record BulkUsersRequest(List<UUID> ids) {
+    }
+
+    /**
+     * Request DTO for bulk role updates.
+     */
+    public record BulkRolesRequest(List<UUID> ids, Set<String> roles) {
+    }
+
+    /**
+     * Response DTO for bulk operations: counts per outcome and the outcome for each ID.
+     */
+    public record BulkUpdateResponse(
+            int updated,
+            int unchanged,
+            int notFound,
+            List<UserAdministrationService.BulkResult> results
+    ) {
+        public static BulkUpdateResponse from(List<UserAdministrationService.BulkResult> results) {
+            Map<UserAdministrationService.BulkStatus, Long> counts = results.stream()
+                    .collect(Collectors.groupingBy(UserAdministrationService.BulkResult::status, Collectors.counting()));
+            return new BulkUpdateResponse(
+                    counts.getOrDefault(UserAdministrationService.BulkStatus.UPDATED, 0L).intValue(),
+                    counts.getOrDefault(UserAdministrationService.BulkStatus.UNCHANGED, 0L).intValue(),
+                    counts.getOrDefault(UserAdministrationService.BulkStatus.NOT_FOUND, 0L).intValue(),
+                    results);
+        }
+    }
+
     /**
      * Response DTO for delete user operation.
      */
@@ -188,9 +412,9 @@ public class AdminController {
     /**
      * Exception thrown when user is not found.
      */
-    public static class UserNotFoundException extends RuntimeException {
+    public static class UserNotFoundException extends DomainException {
         public UserNotFoundException(String message) {
-            super(message);
+            super(ErrorCode.USER_NOT_FOUND, message);
         }
     }
 }
@@ -3,6 +3,7 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +36,7 @@ public class AuthController {
      * @return the created user details
      */
     @PostMapping("/register")
+    @Timed(value = "auth.register", histogram = true, description = "Registration latency")
     public ResponseEntity<RegisterResponse> register(@Valid @RequestBody RegisterRequest request) {
         logger.info("Registration request received for email: {}", request.email());
 
@@ -60,6 +62,7 @@ public class AuthController {
      * @return login response with tokens and user info
      */
     @PostMapping("/login")
+    @Timed(value = "auth.login", histogram = true, description = "Login latency")
     public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
         logger.info("Login request received for email: {}", request.email());
 
@@ -81,6 +84,7 @@ public class AuthController {
      * @return new tokens
      */
     @PostMapping("/refresh")
+    @Timed(value = "auth.refresh", histogram = true, description = "Token refresh latency")
     public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
         logger.info("Token refresh request received");
 
@@ -14,7 +14,7 @@ public record ChangePasswordRequest(
         String currentPassword,
 
         @NotBlank(message = "New password is required")
-        @Size(min = 8, max = 128, message = "New password must be between 8 and 128 characters")
+        @Size(max = 128, message = "New password cannot exceed 128 characters")
         String newPassword
 ) {
 }
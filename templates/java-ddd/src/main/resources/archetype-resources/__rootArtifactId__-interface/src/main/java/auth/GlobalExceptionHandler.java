@@ -4,10 +4,13 @@
 package ${package}.auth;
 
 import ${package}.common.ApiResponse;
+import ${package}.common.DomainException;
 import ${package}.common.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,8 +21,11 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Global exception handler for REST API endpoints.
@@ -30,6 +36,33 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final Map<ErrorCode, HttpStatus> STATUS_BY_CODE = new EnumMap<>(ErrorCode.class);
+    private static final Set<ErrorCode> LOGGED_CODES =
+            EnumSet.of(ErrorCode.INVALID_CREDENTIALS, ErrorCode.SERVICE_UNAVAILABLE);
+
+    static {
+        STATUS_BY_CODE.put(ErrorCode.UNAUTHORIZED, HttpStatus.UNAUTHORIZED);
+        STATUS_BY_CODE.put(ErrorCode.INVALID_CREDENTIALS, HttpStatus.UNAUTHORIZED);
+        STATUS_BY_CODE.put(ErrorCode.TOKEN_EXPIRED, HttpStatus.UNAUTHORIZED);
+        STATUS_BY_CODE.put(ErrorCode.TOKEN_INVALID, HttpStatus.UNAUTHORIZED);
+        STATUS_BY_CODE.put(ErrorCode.ACCOUNT_DISABLED, HttpStatus.FORBIDDEN);
+        STATUS_BY_CODE.put(ErrorCode.FORBIDDEN, HttpStatus.FORBIDDEN);
+        STATUS_BY_CODE.put(ErrorCode.INSUFFICIENT_PERMISSIONS, HttpStatus.FORBIDDEN);
+        STATUS_BY_CODE.put(ErrorCode.VALIDATION_ERROR, HttpStatus.BAD_REQUEST);
+        STATUS_BY_CODE.put(ErrorCode.INVALID_PARAMETER, HttpStatus.BAD_REQUEST);
+        // The caller is authenticated, so a 401 would look like an expired session
+        STATUS_BY_CODE.put(ErrorCode.INVALID_CURRENT_PASSWORD, HttpStatus.BAD_REQUEST);
+        STATUS_BY_CODE.put(ErrorCode.RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND);
+        STATUS_BY_CODE.put(ErrorCode.USER_NOT_FOUND, HttpStatus.NOT_FOUND);
+        STATUS_BY_CODE.put(ErrorCode.EMAIL_ALREADY_EXISTS, HttpStatus.CONFLICT);
+        STATUS_BY_CODE.put(ErrorCode.USERNAME_ALREADY_EXISTS, HttpStatus.CONFLICT);
+        STATUS_BY_CODE.put(ErrorCode.WEAK_PASSWORD, HttpStatus.BAD_REQUEST);
+        STATUS_BY_CODE.put(ErrorCode.CONFLICT, HttpStatus.CONFLICT);
+        STATUS_BY_CODE.put(ErrorCode.INTERNAL_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
+        STATUS_BY_CODE.put(ErrorCode.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+        STATUS_BY_CODE.put(ErrorCode.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     /**
      * Handles validation errors from @Valid annotations.
      */
@@ -107,83 +140,30 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles email already exists exception.
-     */
-    @ExceptionHandler(UserRegistrationService.EmailAlreadyExistsException.class)
-    public ResponseEntity<ApiResponse<Void>> handleEmailAlreadyExists(
-            UserRegistrationService.EmailAlreadyExistsException ex,
-            HttpServletRequest request) {
-
-        ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.EMAIL_ALREADY_EXISTS.getCode(),
-                ErrorCode.EMAIL_ALREADY_EXISTS.getMessage()
-        );
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
-    }
-
-    /**
-     * Handles username already exists exception.
-     */
-    @ExceptionHandler(UserRegistrationService.UsernameAlreadyExistsException.class)
-    public ResponseEntity<ApiResponse<Void>> handleUsernameAlreadyExists(
-            UserRegistrationService.UsernameAlreadyExistsException ex,
-            HttpServletRequest request) {
-
-        ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.USERNAME_ALREADY_EXISTS.getCode(),
-                ErrorCode.USERNAME_ALREADY_EXISTS.getMessage()
-        );
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
-    }
-
-    /**
-     * Handles weak password exception.
-     */
-    @ExceptionHandler(UserRegistrationService.WeakPasswordException.class)
-    public ResponseEntity<ApiResponse<Void>> handleWeakPassword(
-            UserRegistrationService.WeakPasswordException ex,
-            HttpServletRequest request) {
-
-        ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.WEAK_PASSWORD.getCode(),
-                ex.getMessage()
-        );
-
-        return ResponseEntity.badRequest().body(response);
-    }
-
-    /**
-     * Handles invalid token exception.
+     * Handles all domain exceptions with one table lookup on their error code.
+     * Server-side failures return the code's generic message; the specific reason is only logged.
      */
-    @ExceptionHandler(TokenService.InvalidTokenException.class)
-    public ResponseEntity<ApiResponse<Void>> handleInvalidToken(
-            TokenService.InvalidTokenException ex,
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDomainException(
+            DomainException ex,
             HttpServletRequest request) {
 
-        ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.TOKEN_INVALID.getCode(),
-                ex.getMessage()
-        );
-
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-    }
-
-    /**
-     * Handles account disabled exception.
-     */
-    @ExceptionHandler(AuthenticationService.AccountDisabledException.class)
-    public ResponseEntity<ApiResponse<Void>> handleAccountDisabled(
-            AuthenticationService.AccountDisabledException ex,
-            HttpServletRequest request) {
+        ErrorCode errorCode = ex.getErrorCode();
+        HttpStatus status = STATUS_BY_CODE.getOrDefault(errorCode, HttpStatus.INTERNAL_SERVER_ERROR);
+        if (LOGGED_CODES.contains(errorCode)) {
+            logger.warn("{} for request: {} - {}", errorCode, request.getRequestURI(), ex.getMessage());
+        }
 
         ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.ACCOUNT_DISABLED.getCode(),
-                ErrorCode.ACCOUNT_DISABLED.getMessage()
+                errorCode.getCode(),
+                status.is5xxServerError() ? errorCode.getMessage() : ex.getMessage()
         );
 
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (errorCode == ErrorCode.SERVICE_UNAVAILABLE) {
+            builder.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return builder.body(response);
     }
 
     /**
@@ -221,51 +201,21 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles user not found exception.
+     * Handles constraint violations that no service mapped to a domain error.
      */
-    @ExceptionHandler(UserController.UserNotFoundException.class)
-    public ResponseEntity<ApiResponse<Void>> handleUserNotFound(
-            UserController.UserNotFoundException ex,
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex,
             HttpServletRequest request) {
 
-        ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.USER_NOT_FOUND.getCode(),
-                ex.getMessage()
-        );
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-    }
-
-    /**
-     * Handles invalid password exception.
-     */
-    @ExceptionHandler(UserController.InvalidPasswordException.class)
-    public ResponseEntity<ApiResponse<Void>> handleInvalidPassword(
-            UserController.InvalidPasswordException ex,
-            HttpServletRequest request) {
+        logger.warn("Data integrity violation for request: {}", request.getRequestURI());
 
         ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.INVALID_CREDENTIALS.getCode(),
-                ex.getMessage()
-        );
-
-        return ResponseEntity.badRequest().body(response);
-    }
-
-    /**
-     * Handles weak password exception from UserController.
-     */
-    @ExceptionHandler(UserController.WeakPasswordException.class)
-    public ResponseEntity<ApiResponse<Void>> handleUserControllerWeakPassword(
-            UserController.WeakPasswordException ex,
-            HttpServletRequest request) {
-
-        ApiResponse<Void> response = ApiResponse.error(
-                ErrorCode.WEAK_PASSWORD.getCode(),
-                ex.getMessage()
+                ErrorCode.CONFLICT.getCode(),
+                ErrorCode.CONFLICT.getMessage()
         );
 
-        return ResponseEntity.badRequest().body(response);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
     /**
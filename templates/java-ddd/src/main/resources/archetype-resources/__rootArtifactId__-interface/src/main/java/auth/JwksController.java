@@ -0,0 +1,39 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.auth;
+
+import ${package}.common.RawResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Publishes the public keys that verify access tokens, so other services can verify tokens locally.
+ * The response is a standard JWK Set and is not wrapped in ApiResponse.
+ */
+@RestController
+public class JwksController {
+
+    private final JwkSetProvider jwkSetProvider;
+
+    public JwksController(JwkSetProvider jwkSetProvider) {
+        this.jwkSetProvider = jwkSetProvider;
+    }
+
+    /**
+     * Gets the current JWK Set.
+     *
+     * @return the JWK Set document
+     */
+    @GetMapping("/.well-known/jwks.json")
+    @RawResponse
+    public ResponseEntity<Map<String, Object>> getJwkSet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwkSetProvider.getPublicJwkSetMaxAge()).cachePublic())
+                .body(jwkSetProvider.getPublicJwkSet());
+    }
+}
@@ -21,7 +21,7 @@ public record RegisterRequest(
         String email,
 
         @NotBlank(message = "Password is required")
-        @Size(min = 8, max = 128, message = "Password must be between 8 and 128 characters")
+        @Size(max = 128, message = "Password cannot exceed 128 characters")
         String password,
 
         @Size(max = 100, message = "First name cannot exceed 100 characters")
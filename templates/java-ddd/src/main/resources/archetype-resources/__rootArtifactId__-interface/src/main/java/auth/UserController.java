@@ -3,6 +3,8 @@
 #set( $symbol_escape = '\' )
 package ${package}.auth;
 
+import ${package}.common.DomainException;
+import ${package}.common.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -47,7 +49,7 @@ public class UserController {
         logger.debug("Get current user profile request");
 
         User user = currentUserService.getCurrentUser()
-                .orElseThrow(() -> new UserNotFoundException("Current user not found"));
+                .orElseThrow(() -> UserNotFoundException.CURRENT_USER);
 
         return ResponseEntity.ok(UserProfileResponse.from(user));
     }
@@ -80,7 +82,7 @@ public class UserController {
         logger.debug("Update profile request");
 
         User user = currentUserService.getCurrentUser()
-                .orElseThrow(() -> new UserNotFoundException("Current user not found"));
+                .orElseThrow(() -> UserNotFoundException.CURRENT_USER);
 
         user.updateProfile(request.firstName(), request.lastName());
         User savedUser = userRepository.save(user);
@@ -99,11 +101,11 @@ public class UserController {
         logger.debug("Change password request");
 
         User user = currentUserService.getCurrentUser()
-                .orElseThrow(() -> new UserNotFoundException("Current user not found"));
+                .orElseThrow(() -> UserNotFoundException.CURRENT_USER);
 
         // Verify current password
         if (!passwordService.matches(request.currentPassword(), user.getPasswordHash())) {
-            throw new InvalidPasswordException("Current password is incorrect");
+            throw InvalidPasswordException.INSTANCE;
         }
 
         // Validate new password strength
@@ -158,27 +160,31 @@ public class UserController {
     /**
      * Exception thrown when user is not found.
      */
-    public static class UserNotFoundException extends RuntimeException {
+    public static class UserNotFoundException extends DomainException {
+        static final UserNotFoundException CURRENT_USER = new UserNotFoundException("Current user not found");
+
         public UserNotFoundException(String message) {
-            super(message);
+            super(ErrorCode.USER_NOT_FOUND, message);
         }
     }
 
     /**
      * Exception thrown when password is invalid.
      */
-    public static class InvalidPasswordException extends RuntimeException {
-        public InvalidPasswordException(String message) {
-            super(message);
+    public static final class InvalidPasswordException extends DomainException {
+        static final InvalidPasswordException INSTANCE = new InvalidPasswordException();
+
+        private InvalidPasswordException() {
+            super(ErrorCode.INVALID_CURRENT_PASSWORD);
         }
     }
 
     /**
      * Exception thrown when password doesn't meet strength requirements.
      */
-    public static class WeakPasswordException extends RuntimeException {
+    public static class WeakPasswordException extends DomainException {
         public WeakPasswordException(String message) {
-            super(message);
+            super(ErrorCode.WEAK_PASSWORD, message);
         }
     }
 }
@@ -25,6 +25,9 @@ public record ApiResponse<T>(
     /** Generic error code */
     public static final int ERROR = -1;
 
+    /** Message of successful responses */
+    public static final String SUCCESS_MESSAGE = "success";
+
     /** Trace ID key in MDC */
     private static final String TRACE_ID_KEY = "traceId";
 
@@ -39,7 +42,7 @@ public record ApiResponse<T>(
      * Creates a successful response with data.
      */
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(SUCCESS, "success", data, getCurrentTraceId());
+        return new ApiResponse<>(SUCCESS, SUCCESS_MESSAGE, data, getCurrentTraceId());
     }
 
     /**
@@ -53,7 +56,7 @@ public record ApiResponse<T>(
      * Creates a successful response without data.
      */
     public static <T> ApiResponse<T> success() {
-        return new ApiResponse<>(SUCCESS, "success", null, getCurrentTraceId());
+        return new ApiResponse<>(SUCCESS, SUCCESS_MESSAGE, null, getCurrentTraceId());
     }
 
     /**
@@ -0,0 +1,86 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.common;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson message converter with a direct write path for {@link ApiResponse}.
+ * Replaces Spring Boot's default {@link MappingJackson2HttpMessageConverter}, so every other body
+ * is handled exactly as before. An {@code ApiResponse} is written field by field: the field names
+ * and the {@code "success"} message are pre-encoded UTF-8 fragments copied into the output buffer,
+ * and {@code data} is serialized straight into the same generator, without resolving a serializer
+ * for the envelope record.
+ */
+@Component
+public class ApiResponseHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString TRACE_ID = new SerializedString("traceId");
+    private static final SerializedString SUCCESS_MESSAGE = new SerializedString("success");
+
+    /** Writer for envelope and data; flushing is left to the servlet container */
+    private final ObjectWriter writer;
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        if (!(object instanceof ApiResponse<?> response)
+                || getJsonEncoding(outputMessage.getHeaders().getContentType()) != JsonEncoding.UTF8) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        try (JsonGenerator generator = writer.createGenerator(
+                StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            writeEnvelope(generator, response);
+        }
+    }
+
+    /**
+     * Writes the envelope with the same field order and null handling as {@link ApiResponse}'s
+     * {@code @JsonInclude(NON_NULL)} mapping.
+     */
+    private void writeEnvelope(JsonGenerator generator, ApiResponse<?> response) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(CODE);
+        generator.writeNumber(response.code());
+        if (response.message() != null) {
+            generator.writeFieldName(MESSAGE);
+            if (ApiResponse.SUCCESS_MESSAGE.equals(response.message())) {
+                generator.writeString(SUCCESS_MESSAGE);
+            } else {
+                generator.writeString(response.message());
+            }
+        }
+        if (response.data() != null) {
+            generator.writeFieldName(DATA);
+            writer.writeValue(generator, response.data());
+        }
+        if (response.traceId() != null) {
+            generator.writeFieldName(TRACE_ID);
+            generator.writeString(response.traceId());
+        }
+        generator.writeEndObject();
+    }
+}
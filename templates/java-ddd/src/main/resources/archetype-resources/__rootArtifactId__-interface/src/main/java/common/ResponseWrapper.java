@@ -11,25 +11,42 @@ import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import java.lang.reflect.Executable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Automatically wraps controller responses in ApiResponse.
  * Excludes responses that are already ApiResponse or error responses.
+ * Whether a handler method is wrapped is decided once per method and cached, since
+ * {@link #supports} runs for every response body.
  */
 @RestControllerAdvice(basePackages = "${package}")
 public class ResponseWrapper implements ResponseBodyAdvice<Object> {
 
+    private final Map<Executable, Boolean> wrapDecisions = new ConcurrentHashMap<>();
+
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        // Skip if already wrapped or is an error response
+        Boolean wrap = wrapDecisions.get(returnType.getExecutable());
+        if (wrap == null) {
+            wrap = shouldWrap(returnType);
+            wrapDecisions.put(returnType.getExecutable(), wrap);
+        }
+        return wrap;
+    }
+
+    private static boolean shouldWrap(MethodParameter returnType) {
         Class<?> declaringClass = returnType.getDeclaringClass();
-        String className = declaringClass.getSimpleName();
 
         // Skip GlobalExceptionHandler responses (they handle their own wrapping)
-        if (className.contains("ExceptionHandler")) {
+        if (declaringClass.getSimpleName().contains("ExceptionHandler")) {
             return false;
         }
 
-        return true;
+        // Skip responses whose format is defined elsewhere (e.g. JWK Set)
+        return !returnType.hasMethodAnnotation(RawResponse.class)
+                && !declaringClass.isAnnotationPresent(RawResponse.class);
     }
 
     @Override
@@ -44,7 +61,7 @@ public class ResponseWrapper implements ResponseBodyAdvice<Object> {
             return body;
         }
 
-        // Wrap in ApiResponse
+        // Wrap in ApiResponse; written by ApiResponseHttpMessageConverter for JSON responses
         return ApiResponse.success(body);
     }
 }
@@ -0,0 +1,79 @@
+// Post-build check: counts the SQL statements a login and a token refresh issue.
+// Starts the built application with Hibernate SQL logging, sends each request with its own
+// X-Trace-Id and counts the org.hibernate.SQL log lines tagged with that trace ID.
+// Kept to plain Java APIs: the archetype plugin runs this with an old Groovy runtime.
+
+import java.util.concurrent.TimeUnit
+
+def maxStatements = [login: 2, refresh: 3]
+
+def project = new File(context.projectDir.toString())
+def target = new File(project, 'test-project-bootstrap/target')
+def jar = target.listFiles().find { it.name.endsWith('.jar') }
+assert jar != null : 'No application jar in ' + target
+
+def socket = new ServerSocket(0)
+def port = socket.localPort
+socket.close()
+def base = 'http://localhost:' + port
+def log = new File(target, 'statement-count.log')
+
+def java = new File(System.getProperty('java.home'), 'bin/java').path
+def app = new ProcessBuilder(java, '-jar', jar.path, '--server.port=' + port,
+        '--logging.level.org.hibernate.SQL=DEBUG')
+        .directory(target)
+        .redirectErrorStream(true)
+        .redirectOutput(log)
+        .start()
+
+def request = { String method, String path, String body, String traceId ->
+    def connection = (HttpURLConnection) new URL(base + path).openConnection()
+    connection.requestMethod = method
+    if (traceId != null) {
+        connection.setRequestProperty('X-Trace-Id', traceId)
+    }
+    if (body != null) {
+        connection.doOutput = true
+        connection.setRequestProperty('Content-Type', 'application/json')
+        connection.outputStream.withWriter('UTF-8') { it.write(body) }
+    }
+    def status = connection.responseCode
+    def stream = status < 400 ? connection.inputStream : connection.errorStream
+    def text = stream != null ? stream.getText('UTF-8') : ''
+    assert status < 400 : method + ' ' + path + ' returned ' + status + ': ' + text
+    return text
+}
+
+try {
+    def started = false
+    for (int i = 0; i < 240 && !started; i++) {
+        assert app.alive : 'Application exited, see ' + log
+        try {
+            request('GET', '/actuator/health', null, null)
+            started = true
+        } catch (IOException ignored) {
+            Thread.sleep(500)
+        }
+    }
+    assert started : 'Application did not start, see ' + log
+
+    def credentials = '"email":"counter@example.com","password":"Count@Sql1"'
+    request('POST', '/api/auth/register', '{"username":"counter",' + credentials + '}', null)
+    def login = request('POST', '/api/auth/login', '{' + credentials + '}', 'statement-count-login')
+    def refreshToken = (login =~ /"refreshToken"\s*:\s*"([^"]+)"/)[0][1]
+    request('POST', '/api/auth/refresh', '{"refreshToken":"' + refreshToken + '"}', 'statement-count-refresh')
+} finally {
+    app.destroy()
+    if (!app.waitFor(30, TimeUnit.SECONDS)) {
+        app.destroyForcibly()
+    }
+}
+
+def lines = log.readLines()
+maxStatements.each { name, max ->
+    def statements = lines.findAll { it.contains('[statement-count-' + name + ']') && it.contains('org.hibernate.SQL') }
+    println name + ': ' + statements.size() + ' SQL statements (at most ' + max + ' expected)'
+    assert !statements.isEmpty() : 'No SQL logged for ' + name + ', see ' + log
+    assert statements.size() <= max : name + ' issued ' + statements.size() + ' SQL statements, expected at most ' + max + ', see ' + log
+}
+return true